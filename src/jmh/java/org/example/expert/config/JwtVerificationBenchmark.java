@@ -0,0 +1,89 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 검증 비용 비교 (./gradlew jmh, gc 프로파일러로 요청당 할당량 gc.alloc.rate.norm 함께 측정)
+ * cold: 매번 새 토큰 검증 (서명 검증 + JSON 파싱), warm: 같은 토큰 반복 (인증 캐시 히트)
+ * jjwt / compact: 캐시 없이 jjwt 검증과 CompactJwtVerifier 검증 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final int TOKEN_COUNT = 1 << 16;
+
+    private JwtUtil coldJwtUtil;
+    private JwtUtil warmJwtUtil;
+    private JwtUtil jjwtJwtUtil;
+    private JwtUtil compactJwtUtil;
+    private String[] tokens;
+    private String warmToken;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        String secretKey = Base64.getEncoder().encodeToString(secret);
+
+        // 캐시가 항상 비어 있도록 최대 크기 0
+        coldJwtUtil = jwtUtil(secretKey, 0, true);
+        warmJwtUtil = jwtUtil(secretKey, 100_000, true);
+        jjwtJwtUtil = jwtUtil(secretKey, 0, false);
+        compactJwtUtil = jwtUtil(secretKey, 0, true);
+
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = warmJwtUtil.substringToken(
+                    warmJwtUtil.createToken((long) i, "user" + i + "@example.com", UserRole.USER, "nickname" + i));
+        }
+        warmToken = tokens[0];
+        warmJwtUtil.resolveAuthUser(warmToken);
+    }
+
+    @Benchmark
+    public AuthUser cold() {
+        String token = tokens[next++ & (TOKEN_COUNT - 1)];
+        return coldJwtUtil.resolveAuthUser(token);
+    }
+
+    @Benchmark
+    public AuthUser warm() {
+        return warmJwtUtil.resolveAuthUser(warmToken);
+    }
+
+    @Benchmark
+    public CompactJwtVerifier.VerifiedToken jjwt() {
+        return jjwtJwtUtil.verify(tokens[next++ & (TOKEN_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public CompactJwtVerifier.VerifiedToken compact() {
+        return compactJwtUtil.verify(tokens[next++ & (TOKEN_COUNT - 1)]);
+    }
+
+    private static JwtUtil jwtUtil(String secretKey, int authCacheMaxEntries, boolean compactVerifierEnabled)
+            throws Exception {
+        JwtUtil jwtUtil = new JwtUtil();
+        set(jwtUtil, "secretKey", secretKey);
+        set(jwtUtil, "authCacheMaxEntries", authCacheMaxEntries);
+        set(jwtUtil, "compactVerifierEnabled", compactVerifierEnabled);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    private static void set(JwtUtil jwtUtil, String name, Object value) throws Exception {
+        Field field = JwtUtil.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtUtil, value);
+    }
+}
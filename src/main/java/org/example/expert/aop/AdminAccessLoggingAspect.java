@@ -2,29 +2,33 @@ package org.example.expert.aop;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
+import org.example.expert.domain.audit.journal.AuditJournal;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
 
-import java.time.LocalDateTime;
-
-@Slf4j
+/**
+ * 관리자 API 접근 감사 로깅 AOP
+ * 요청 스레드에서는 journal ring buffer에 넣기만 하고, 파일 기록은 journal writer 스레드가 한다.
+ */
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class AdminAccessLoggingAspect {
 
     private final HttpServletRequest request;
+    private final AuditJournal auditJournal;
 
-    @Before("execution(* org.example.expert.domain.user.controller.UserAdminController.changeUserRole(..))")
-    public void logAfterChangeUserRole(JoinPoint joinPoint) {
-        String userId = String.valueOf(request.getAttribute("userId"));
-        String requestUrl = request.getRequestURI();
-        LocalDateTime requestTime = LocalDateTime.now();
+    @Before("execution(* org.example.expert.domain..controller.*AdminController.*(..))")
+    public void logAdminAccess(JoinPoint joinPoint) {
+        Object userId = request.getAttribute("userId");
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String requestUrl = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        String method = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
 
-        log.info("Admin Access Log - User ID: {}, Request Time: {}, Request URL: {}, Method: {}",
-                userId, requestTime, requestUrl, joinPoint.getSignature().getName());
+        auditJournal.append(userId instanceof Long id ? id : 0L, requestUrl, method);
     }
 }
@@ -5,6 +5,8 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.example.expert.domain.common.annotation.ManagerSaveFailureLogging;
+import org.example.expert.domain.manager.dto.response.ManagerBatchSaveResponse;
+import org.example.expert.domain.manager.entity.Log;
 import org.example.expert.domain.manager.service.LogService;
 import org.springframework.stereotype.Component;
 
@@ -25,12 +27,17 @@ public class ManagerSaveLoggingAspect {
         try {
             Object result = joinPoint.proceed();
 
-            // 담당자 등록 성공
-            logService.saveLog("성공", "정상 등록 완료");
+            // 담당자 등록 성공 (일괄 등록은 건수를 합쳐서 한 건만 남긴다)
+            if (result instanceof ManagerBatchSaveResponse batch) {
+                logService.saveLog(Log.ACTION_SUCCESS, String.format("정상 등록 완료 - 등록 %d명, 건너뜀 %d명",
+                        batch.getManagers().size(), batch.getSkippedUserIds().size()));
+            } else {
+                logService.saveLog(Log.ACTION_SUCCESS, "정상 등록 완료");
+            }
             return result;
         } catch (Exception e) {
             // 예외 발생으로 담당자 등록 실패
-            logService.saveLog("실패", "사유: " + e.getMessage());
+            logService.saveLog(Log.ACTION_FAILURE, "사유: " + e.getMessage());
             throw e;
         }
     }
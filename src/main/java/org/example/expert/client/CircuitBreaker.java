@@ -0,0 +1,63 @@
+package org.example.expert.client;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 원격 호출용 서킷 브레이커 (lock-free)
+ *
+ * <p>연속 실패가 failureThreshold에 도달하면 openMillis 동안 호출을 차단한다.
+ * 차단 시간이 지나면 호출 하나만 시험 삼아 통과시키고, 성공하면 닫고 실패하면 다시 연다.
+ */
+public class CircuitBreaker {
+
+    private static final long CLOSED = 0L;
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    // 0이면 닫힘, 아니면 차단이 풀리는 시각
+    private final AtomicLong openUntil = new AtomicLong(CLOSED);
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * 호출 허용 여부
+     */
+    public boolean tryAcquire() {
+        long until = openUntil.get();
+        if (until == CLOSED) {
+            return true;
+        }
+        if (System.currentTimeMillis() < until) {
+            return false;
+        }
+        return trialInFlight.compareAndSet(false, true);
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        openUntil.set(CLOSED);
+        trialInFlight.set(false);
+    }
+
+    public void onFailure() {
+        if (trialInFlight.compareAndSet(true, false)) {
+            openUntil.set(System.currentTimeMillis() + openMillis);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openUntil.compareAndSet(CLOSED, System.currentTimeMillis() + openMillis);
+        }
+    }
+
+    public boolean isOpen() {
+        return openUntil.get() != CLOSED;
+    }
+}
@@ -1,28 +1,195 @@
 package org.example.expert.client;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * 날씨 API 클라이언트
+ *
+ * <p>날씨 데이터는 하루에 한 번만 바뀌므로 날짜(MM-dd)별 날씨 맵으로 캐시한다.
+ * 날짜가 바뀌면 다시 받아오고, 동시에 들어온 요청은 진행 중인 요청 하나의 결과를 함께 기다린다.
+ * 갱신에 실패하면 마지막으로 받아온 데이터를 계속 사용하고, 받아온 데이터가 없으면 fallback 날씨를 사용한다.
+ * 원격 호출은 서킷 브레이커로 보호하며 결과별 지연 시간을 weather.client.requests 지표로 남긴다.
+ */
+@Slf4j
 @Component
 public class WeatherClient {
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+    private static final String REQUEST_METRIC = "weather.client.requests";
+
     private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final String baseUrl;
+    private final String fallbackWeather;
+    private final long retryBackoffMillis;
+
+    private volatile WeatherSnapshot snapshot;
+    private final AtomicReference<CompletableFuture<WeatherSnapshot>> inFlight = new AtomicReference<>();
+    private volatile long lastFailureAt;
+
+    public WeatherClient(@Qualifier("weatherRestTemplate") RestTemplate restTemplate,
+                         @Qualifier("weatherCircuitBreaker") CircuitBreaker circuitBreaker,
+                         MeterRegistry meterRegistry,
+                         @Value("${weather.base-url:https://f-api.github.io}") String baseUrl,
+                         @Value("${weather.fallback:Unknown}") String fallbackWeather,
+                         @Value("${weather.retry-backoff-seconds:60}") long retryBackoffSeconds) {
+        this.restTemplate = restTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        this.baseUrl = baseUrl;
+        this.fallbackWeather = fallbackWeather;
+        this.retryBackoffMillis = retryBackoffSeconds * 1000;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+        Gauge.builder("weather.client.circuit.open", circuitBreaker, breaker -> breaker.isOpen() ? 1 : 0)
+                .register(meterRegistry);
     }
 
     public String getTodayWeather() {
+        LocalDate today = LocalDate.now();
+        WeatherSnapshot current = snapshot;
+
+        if (current == null || current.loadedOn().isBefore(today)) {
+            current = refreshOrStale(current);
+        }
+        if (current == null) {
+            return fallbackWeather;
+        }
+
+        String weather = current.weatherByDate().get(today.format(DATE_FORMATTER));
+        if (weather == null) {
+            throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+
+    /**
+     * 자정마다 다음 날 데이터를 미리 받아 둔다.
+     */
+    @Scheduled(cron = "${weather.refresh-cron:0 0 0 * * *}")
+    public void scheduledRefresh() {
+        refreshQuietly();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        CompletableFuture.runAsync(this::refreshQuietly);
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("날씨 데이터 갱신 실패", e);
+        }
+    }
+
+    /**
+     * @return 새로 받아온 데이터, 실패 시 이전 데이터, 이전 데이터도 없고 fallback이 설정되어 있으면 null
+     */
+    private WeatherSnapshot refreshOrStale(WeatherSnapshot stale) {
+        // 직전 실패 후 backoff 동안은 원격 호출 없이 이전 데이터를 사용
+        if (stale != null && System.currentTimeMillis() - lastFailureAt < retryBackoffMillis) {
+            return stale;
+        }
+        try {
+            return refresh();
+        } catch (ServerException e) {
+            if (stale == null) {
+                if (!StringUtils.hasText(fallbackWeather)) {
+                    throw e;
+                }
+                log.warn("날씨 데이터를 가져오지 못해 fallback 날씨를 사용합니다. fallback={}, cause={}", fallbackWeather, e.getMessage());
+                return null;
+            }
+            log.warn("날씨 데이터 갱신 실패, 이전 데이터를 사용합니다. loadedOn={}", stale.loadedOn(), e);
+            return stale;
+        }
+    }
+
+    /**
+     * 진행 중인 요청이 있으면 그 결과를 기다리고, 없으면 현재 스레드에서 직접 받아온다.
+     */
+    private WeatherSnapshot refresh() {
+        CompletableFuture<WeatherSnapshot> future = new CompletableFuture<>();
+        CompletableFuture<WeatherSnapshot> running = inFlight.compareAndExchange(null, future);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            WeatherSnapshot loaded = new WeatherSnapshot(LocalDate.now(), fetchWeatherByDate());
+            snapshot = loaded;
+            future.complete(loaded);
+        } catch (RuntimeException e) {
+            lastFailureAt = System.currentTimeMillis();
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.set(null);
+        }
+        return await(future);
+    }
+
+    private WeatherSnapshot await(CompletableFuture<WeatherSnapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ServerException serverException) {
+                throw serverException;
+            }
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
+        }
+    }
+
+    private Map<String, String> fetchWeatherByDate() {
+        if (!circuitBreaker.tryAcquire()) {
+            meterRegistry.timer(REQUEST_METRIC, "outcome", "rejected").record(Duration.ZERO);
+            throw new ServerException("날씨 API 호출이 일시적으로 차단되었습니다.");
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Map<String, String> weatherByDate = requestWeatherByDate();
+            circuitBreaker.onSuccess();
+            outcome = "success";
+            return weatherByDate;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer(REQUEST_METRIC, "outcome", outcome));
+        }
+    }
+
+    private Map<String, String> requestWeatherByDate() {
         ResponseEntity<WeatherDto[]> responseEntity =
                 restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
 
@@ -35,28 +202,22 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
-
+        Map<String, String> weatherByDate = new HashMap<>(weatherArray.length * 2);
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
-            }
+            weatherByDate.put(weatherDto.getDate(), weatherDto.getWeather());
         }
-
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        return Collections.unmodifiableMap(weatherByDate);
     }
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    private record WeatherSnapshot(LocalDate loadedOn, Map<String, String> weatherByDate) {
     }
 }
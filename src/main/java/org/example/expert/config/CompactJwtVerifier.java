@@ -0,0 +1,308 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 우리 서버가 발급한 HS256 토큰 전용 검증기
+ *
+ * <p>헤더가 {"alg":"HS256"}이고 payload가 문자열/숫자 값만 가진 평평한 JSON인 토큰만 처리한다.
+ * 스레드별로 재사용하는 버퍼에 Base64URL을 풀고 스레드별 Mac으로 서명을 검증한 뒤,
+ * 중간 Map 없이 sub, email, userRole, nickname, exp를 바로 읽어 AuthUser를 만든다.
+ * 형식이 다른 토큰은 null을 반환하고, 호출하는 쪽에서 jjwt로 검증한다.
+ */
+public class CompactJwtVerifier {
+
+    private static final String HEADER = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.US_ASCII));
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final byte[] DECODE_TABLE = new byte[128];
+
+    private static final byte[] SUB = key("sub");
+    private static final byte[] EMAIL = key("email");
+    private static final byte[] USER_ROLE = key("userRole");
+    private static final byte[] NICKNAME = key("nickname");
+    private static final byte[] EXP = key("exp");
+    private static final byte[] NBF = key("nbf");
+
+    static {
+        Arrays.fill(DECODE_TABLE, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE_TABLE[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final ThreadLocal<Mac> macs;
+    private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+    public CompactJwtVerifier(byte[] secret) {
+        SecretKeySpec keySpec = new SecretKeySpec(secret, "HmacSHA256");
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(keySpec);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * 토큰 검증
+     *
+     * @param token Bearer 접두사를 뗀 토큰
+     * @return 검증된 토큰, 이 검증기가 처리하지 않는 형식이면 null
+     * @throws ResponseStatusException 서명이 틀렸거나 만료된 경우 (401)
+     */
+    public VerifiedToken verify(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = token.indexOf('.', firstDot + 1);
+        if (firstDot != HEADER.length() || secondDot < 0 || !token.startsWith(HEADER)
+                || token.indexOf('.', secondDot + 1) >= 0) {
+            return null;
+        }
+
+        Buffers buffer = buffers.get();
+        byte[] ascii = buffer.ascii(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c >= 128) {
+                return null;
+            }
+            ascii[i] = (byte) c;
+        }
+
+        // 서명 검증
+        int signatureLength = decode(ascii, secondDot + 1, token.length(), buffer.signature);
+        if (signatureLength != SIGNATURE_LENGTH) {
+            throw invalidSignature();
+        }
+        Mac mac = macs.get();
+        mac.update(ascii, 0, secondDot);
+        try {
+            mac.doFinal(buffer.expected, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        int diff = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            diff |= buffer.expected[i] ^ buffer.signature[i];
+        }
+        if (diff != 0) {
+            throw invalidSignature();
+        }
+
+        byte[] payload = buffer.payload(secondDot - firstDot);
+        int payloadLength = decode(ascii, firstDot + 1, secondDot, payload);
+        if (payloadLength < 0) {
+            return null;
+        }
+        return parseClaims(payload, payloadLength);
+    }
+
+    /**
+     * payload JSON을 순서대로 읽으면서 필요한 claim만 꺼낸다.
+     * 중첩 객체/배열, 이스케이프 문자, nbf가 있으면 null (jjwt로 처리)
+     */
+    private VerifiedToken parseClaims(byte[] json, int length) {
+        String subject = null;
+        String email = null;
+        String userRole = null;
+        String nickname = null;
+        long expiresAt = -1;
+
+        int i = skipWhitespace(json, 0, length);
+        if (i >= length || json[i++] != '{') {
+            return null;
+        }
+        while (true) {
+            i = skipWhitespace(json, i, length);
+            if (i < length && json[i] == '}') {
+                break;
+            }
+            if (i >= length || json[i] != '"') {
+                return null;
+            }
+            int keyStart = i + 1;
+            int keyEnd = stringEnd(json, keyStart, length);
+            if (keyEnd < 0) {
+                return null;
+            }
+            i = skipWhitespace(json, keyEnd + 1, length);
+            if (i >= length || json[i++] != ':') {
+                return null;
+            }
+            i = skipWhitespace(json, i, length);
+            if (i >= length) {
+                return null;
+            }
+
+            if (json[i] == '"') {
+                int valueStart = i + 1;
+                int valueEnd = stringEnd(json, valueStart, length);
+                if (valueEnd < 0) {
+                    return null;
+                }
+                if (keyEquals(json, keyStart, keyEnd, SUB)) {
+                    subject = new String(json, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+                } else if (keyEquals(json, keyStart, keyEnd, EMAIL)) {
+                    email = new String(json, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+                } else if (keyEquals(json, keyStart, keyEnd, USER_ROLE)) {
+                    userRole = new String(json, valueStart, valueEnd - valueStart, StandardCharsets.US_ASCII);
+                } else if (keyEquals(json, keyStart, keyEnd, NICKNAME)) {
+                    nickname = new String(json, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+                }
+                i = valueEnd + 1;
+            } else if (json[i] == '-' || (json[i] >= '0' && json[i] <= '9')) {
+                long value = 0;
+                boolean negative = json[i] == '-';
+                if (negative) {
+                    i++;
+                }
+                int digitsStart = i;
+                while (i < length && json[i] >= '0' && json[i] <= '9') {
+                    if (i - digitsStart >= 18) {
+                        return null;
+                    }
+                    value = value * 10 + (json[i++] - '0');
+                }
+                if (i == digitsStart || (i < length && (json[i] == '.' || json[i] == 'e' || json[i] == 'E'))) {
+                    return null;
+                }
+                if (keyEquals(json, keyStart, keyEnd, EXP)) {
+                    expiresAt = (negative ? -value : value) * 1000;
+                } else if (keyEquals(json, keyStart, keyEnd, NBF)) {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+
+            i = skipWhitespace(json, i, length);
+            if (i < length && json[i] == ',') {
+                i++;
+            } else if (i < length && json[i] == '}') {
+                break;
+            } else {
+                return null;
+            }
+        }
+
+        if (expiresAt < 0 || subject == null || email == null || userRole == null || nickname == null) {
+            return null;
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "만료된 JWT 토큰입니다.");
+        }
+
+        long userId;
+        try {
+            userId = Long.parseLong(subject);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "잘못된 사용자 ID 형식입니다.");
+        }
+        UserRole role;
+        try {
+            role = UserRole.of(userRole);
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "잘못된 사용자 권한입니다.");
+        }
+        return new VerifiedToken(new AuthUser(userId, email, role, nickname), expiresAt);
+    }
+
+    /**
+     * Base64URL(패딩 없음) 디코딩
+     *
+     * @return 디코딩된 길이, 잘못된 문자가 있거나 dst가 작으면 -1
+     */
+    private static int decode(byte[] src, int from, int to, byte[] dst) {
+        int length = to - from;
+        if (length % 4 == 1 || (length * 3) / 4 > dst.length) {
+            return -1;
+        }
+        int out = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = from; i < to; i++) {
+            int value = DECODE_TABLE[src[i]];
+            if (value < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                dst[out++] = (byte) (bits >> bitCount);
+            }
+        }
+        return out;
+    }
+
+    private static int stringEnd(byte[] json, int from, int length) {
+        for (int i = from; i < length; i++) {
+            if (json[i] == '\\') {
+                return -1;
+            }
+            if (json[i] == '"') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] json, int i, int length) {
+        while (i < length && (json[i] == ' ' || json[i] == '\t' || json[i] == '\n' || json[i] == '\r')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean keyEquals(byte[] json, int start, int end, byte[] key) {
+        return Arrays.equals(json, start, end, key, 0, key.length);
+    }
+
+    private static byte[] key(String key) {
+        return key.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static ResponseStatusException invalidSignature() {
+        return new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
+    }
+
+    public record VerifiedToken(AuthUser authUser, long expiresAt) {
+    }
+
+    private static final class Buffers {
+
+        private byte[] ascii = new byte[512];
+        private byte[] payload = new byte[384];
+        private final byte[] signature = new byte[SIGNATURE_LENGTH + 3];
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+
+        private byte[] ascii(int length) {
+            if (ascii.length < length) {
+                ascii = new byte[length];
+            }
+            return ascii;
+        }
+
+        private byte[] payload(int encodedLength) {
+            int length = encodedLength * 3 / 4 + 3;
+            if (payload.length < length) {
+                payload = new byte[length];
+            }
+            return payload;
+        }
+    }
+}
@@ -1,27 +1,34 @@
 package org.example.expert.config;
 
-import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.dto.AuthUser;
-import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.common.exception.ServerException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
 import java.util.List;
 
+/**
+ * JWT 인증 필터 (Spring Security 필터 체인에만 등록)
+ * 요청당 한 번 토큰을 검증해 SecurityContext에 AuthUser를 넣는다.
+ * 권한(/admin 등) 검사는 SecurityConfig의 authorizeHttpRequests가 담당한다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-
+    private final MeterRegistry meterRegistry;
 
     @Override
     public void doFilterInternal(HttpServletRequest request,
@@ -29,57 +36,41 @@ public class JwtFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws IOException, ServletException {
 
         String url = request.getRequestURI();
-
-        if (url.startsWith("/auth")) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-
         String authHeader = request.getHeader("Authorization");
 
-        if (authHeader == null) {
-            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "JWT 토큰이 필요합니다.");
+        // 토큰이 없으면 인증 없이 진행하고, 인증이 필요한 경로는 Security가 401을 반환한다.
+        if (url.startsWith("/auth") || authHeader == null) {
+            filterChain.doFilter(request, response);
             return;
         }
 
-        String jwt = jwtUtil.substringToken(authHeader);
-
         // JWT 검증
+        Timer.Sample sample = Timer.start(meterRegistry);
+        AuthUser authUser;
         try {
-            Claims claims = jwtUtil.extractClaims(jwt);
-
-            if (claims == null) {
-                response.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 토큰입니다.");
-                return;
-            }
-
-            Long userId = jwtUtil.getUserIdFromClaims(claims);
-            String email = jwtUtil.getEmailFromClaims(claims);
-            UserRole userRole = jwtUtil.getUserRoleFromClaims(claims);
-            String nickname = jwtUtil.getNicknameFromClaims(claims);
-
-            if (url.startsWith("/admin")) {
-                // 관리자 권한이 없는 경우 403을 반환합니다.
-                if (!UserRole.ADMIN.equals(userRole)) {
-                    response.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
-                    return;
-                }
-                filterChain.doFilter(request, response);
-                return;
-            }
-
-            AuthUser authUser = new AuthUser(userId, email, userRole, nickname);
-
-            UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                    authUser, "", List.of(new SimpleGrantedAuthority("ROLE_" + userRole.name()))
-            );
-
-            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-
-            filterChain.doFilter(request, response);
+            authUser = jwtUtil.resolveAuthUser(jwtUtil.substringToken(authHeader));
+        } catch (ResponseStatusException e) {
+            response.sendError(e.getStatusCode().value(), e.getReason());
+            return;
+        } catch (ServerException e) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "잘못된 토큰입니다.");
+            return;
         } catch (Exception e) {
             log.error("예상치 못한 예외 발생", e);
             response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            return;
+        } finally {
+            sample.stop(meterRegistry.timer("auth.jwt.resolve"));
         }
+
+        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
+                authUser, "", List.of(new SimpleGrantedAuthority("ROLE_" + authUser.getUserRole().name()))
+        );
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+
+        // 관리자 API 접근 로그(AdminAccessLoggingAspect)에서 사용
+        request.setAttribute("userId", authUser.getId());
+
+        filterChain.doFilter(request, response);
     }
 }
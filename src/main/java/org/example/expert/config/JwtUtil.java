@@ -5,6 +5,9 @@ import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.CompactJwtVerifier.VerifiedToken;
+import org.example.expert.domain.common.cache.ExpiringLruCache;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,7 +16,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
 
@@ -26,13 +32,34 @@ public class JwtUtil {
 
     @Value("${jwt.secret.key}")
     private String secretKey;
+    @Value("${jwt.auth-cache.max-entries:100000}")
+    private int authCacheMaxEntries;
+    @Value("${jwt.compact-verifier.enabled:true}")
+    private boolean compactVerifierEnabled;
     private Key key;
+    private JwtParser jwtParser;
+    private CompactJwtVerifier compactJwtVerifier;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
+    // 검증이 끝난 토큰의 SHA-256 해시 -> 인증 정보 (토큰 만료 시각까지 재사용)
+    private ExpiringLruCache<String, AuthUser> authCache;
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        compactJwtVerifier = new CompactJwtVerifier(bytes);
+        authCache = new ExpiringLruCache<>(authCacheMaxEntries);
     }
 
     public String createToken(Long userId, String email, UserRole userRole, String nickname) {
@@ -59,9 +86,7 @@ public class JwtUtil {
 
     public Claims extractClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
+            return jwtParser
                     .parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) {
@@ -77,6 +102,54 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * 토큰 검증 후 인증 정보 반환
+     * 한 번 검증된 토큰은 만료 전까지 서명 검증과 JSON 파싱 없이 캐시에서 바로 반환한다.
+     *
+     * @param token Bearer 접두사를 뗀 토큰
+     * @return 인증 정보
+     */
+    public AuthUser resolveAuthUser(String token) {
+        long now = System.currentTimeMillis();
+        String cacheKey = hash(token);
+
+        AuthUser cached = authCache.get(cacheKey, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        VerifiedToken verified = verify(token);
+        AuthUser authUser = verified.authUser();
+
+        if (verified.expiresAt() > 0) {
+            authCache.put(cacheKey, authUser, verified.expiresAt());
+        }
+        return authUser;
+    }
+
+    /**
+     * 토큰 검증 (캐시 미사용)
+     * 우리 서버가 발급한 형식이면 CompactJwtVerifier로, 아니면 jjwt로 검증한다.
+     */
+    public VerifiedToken verify(String token) {
+        if (compactVerifierEnabled) {
+            VerifiedToken verified = compactJwtVerifier.verify(token);
+            if (verified != null) {
+                return verified;
+            }
+        }
+
+        Claims claims = extractClaims(token);
+        AuthUser authUser = new AuthUser(
+                getUserIdFromClaims(claims),
+                getEmailFromClaims(claims),
+                getUserRoleFromClaims(claims),
+                getNicknameFromClaims(claims)
+        );
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(authUser, expiration != null ? expiration.getTime() : 0);
+    }
+
     public Long getUserIdFromClaims(Claims claims) {
         Object id = claims.getSubject();
         if (id == null) {
@@ -116,4 +189,9 @@ public class JwtUtil {
         }
         return String.valueOf(nickname);
     }
+
+    private static String hash(String token) {
+        MessageDigest digest = SHA_256.get();
+        return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
 }
@@ -0,0 +1,28 @@
+package org.example.expert.config;
+
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * multipart 업로드 설정
+ * 업로드 파일은 threshold를 넘으면 메모리가 아닌 디스크 임시 파일에 저장된다. (CSV 가져오기용으로 최대 크기 상향)
+ */
+@Configuration
+public class MultipartConfig {
+
+    @Bean
+    public MultipartConfigElement multipartConfigElement(
+            @Value("${upload.max-file-size:1GB}") DataSize maxFileSize,
+            @Value("${upload.file-size-threshold:1MB}") DataSize fileSizeThreshold
+    ) {
+        MultipartConfigFactory factory = new MultipartConfigFactory();
+        factory.setMaxFileSize(maxFileSize);
+        factory.setMaxRequestSize(maxFileSize);
+        factory.setFileSizeThreshold(fileSizeThreshold);
+        return factory.createMultipartConfig();
+    }
+}
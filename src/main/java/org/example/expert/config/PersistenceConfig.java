@@ -1,5 +1,8 @@
 package org.example.expert.config;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
@@ -15,4 +18,17 @@ public class PersistenceConfig {
     public AuditorAware<String> auditorProvider() {
         return () -> Optional.of("system"); // 또는 현재 로그인 유저의 ID
     }
+
+    /**
+     * JDBC batch insert/update 설정
+     * id는 SEQUENCE(pooled, allocationSize 50)로 미리 할당하므로 insert를 엔티티 종류별로 묶어 보낼 수 있다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${jpa.jdbc.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
 }
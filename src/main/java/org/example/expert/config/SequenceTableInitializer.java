@@ -0,0 +1,83 @@
+package org.example.expert.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * SEQUENCE id 생성용 테이블 초기화
+ *
+ * <p>MySQL에는 시퀀스가 없어서 Hibernate가 *_seq 테이블(next_val 한 행)로 대신하고, 새로 만든 테이블은 1부터 시작한다.
+ * 기존 데이터가 있는 DB에서는 첫 insert가 기존 id와 충돌하므로, 시작할 때 next_val을 MAX(id) + allocationSize 이상으로 올린다.
+ * (pooled optimizer는 읽은 next_val에서 allocationSize - 1을 뺀 값부터 id를 할당한다)
+ * 시퀀스를 지원하는 DB(H2 등)는 *_seq 테이블이 없으므로 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class SequenceTableInitializer {
+
+    // 엔티티 테이블 -> (시퀀스 테이블, allocationSize)
+    static final Map<String, Map.Entry<String, Integer>> SEQUENCES = Map.of(
+            "users", Map.entry("users_seq", 50),
+            "todos", Map.entry("todos_seq", 50),
+            "managers", Map.entry("managers_seq", 50),
+            "comments", Map.entry("comments_seq", 50),
+            "log", Map.entry("log_seq", 50),
+            "todo_import_jobs", Map.entry("todo_import_jobs_seq", 1)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SequenceTableInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        SEQUENCES.forEach((table, sequence) -> seed(table, sequence.getKey(), sequence.getValue()));
+    }
+
+    private void seed(String table, String sequenceTable, int allocationSize) {
+        if (!tableExists(sequenceTable)) {
+            return;
+        }
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+        long nextVal = maxId + allocationSize;
+        // 다른 인스턴스가 이미 올렸거나 더 진행한 경우에는 건드리지 않는다.
+        int updated = jdbcTemplate.update(
+                "update " + sequenceTable + " set next_val = ? where next_val < ?", nextVal, nextVal);
+        if (updated > 0) {
+            log.info("{}.next_val을 {}(으)로 올림 - {} 최대 id: {}", sequenceTable, nextVal, table, maxId);
+        }
+    }
+
+    private boolean tableExists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String catalog = connection.getCatalog();
+            String schema = connection.getSchema();
+            return hasTable(metaData, catalog, schema, table)
+                    || hasTable(metaData, catalog, schema, table.toUpperCase(Locale.ROOT));
+        }));
+    }
+
+    private static boolean hasTable(DatabaseMetaData metaData, String catalog, String schema, String table)
+            throws SQLException {
+        try (ResultSet tables = metaData.getTables(catalog, schema, table, new String[]{"TABLE"})) {
+            return tables.next();
+        }
+    }
+}
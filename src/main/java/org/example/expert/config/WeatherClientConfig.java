@@ -0,0 +1,74 @@
+package org.example.expert.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.example.expert.client.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 날씨 API용 HTTP 클라이언트 설정
+ * keep-alive 커넥션 풀과 연결/응답 timeout을 사용한다.
+ */
+@Configuration
+public class WeatherClientConfig {
+
+    /**
+     * 커넥션 풀과 idle 커넥션 정리 스레드를 가진 클라이언트
+     * 빈으로 등록해서 컨텍스트 종료 시 close()로 풀과 스레드를 정리한다.
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient weatherHttpClient(
+            @Value("${weather.http.connect-timeout-millis:1000}") long connectTimeoutMillis,
+            @Value("${weather.http.read-timeout-millis:2000}") long readTimeoutMillis,
+            @Value("${weather.http.max-connections:20}") int maxConnections
+    ) {
+        return httpClient(connectTimeoutMillis, readTimeoutMillis, maxConnections);
+    }
+
+    @Bean
+    public RestTemplate weatherRestTemplate(RestTemplateBuilder builder, CloseableHttpClient weatherHttpClient) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(weatherHttpClient))
+                .build();
+    }
+
+    @Bean
+    public CircuitBreaker weatherCircuitBreaker(
+            @Value("${weather.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${weather.circuit.open-seconds:30}") long openSeconds
+    ) {
+        return new CircuitBreaker(failureThreshold, openSeconds * 1000);
+    }
+
+    public static CloseableHttpClient httpClient(long connectTimeoutMillis, long readTimeoutMillis, int maxConnections) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+}
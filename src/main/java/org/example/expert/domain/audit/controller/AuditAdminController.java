@@ -0,0 +1,37 @@
+package org.example.expert.domain.audit.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AuditRecordResponse;
+import org.example.expert.domain.audit.service.AuditService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class AuditAdminController {
+
+    private final AuditService auditService;
+
+    /**
+     * 관리자 API 감사 로그 조회 (요청 시각 오름차순)
+     *
+     * @param from 조회 시작 시각 (포함)
+     * @param to 조회 끝 시각 (미포함)
+     * @param limit 최대 건수
+     * @return 감사 로그 목록
+     */
+    @GetMapping("/admin/audit")
+    public ResponseEntity<List<AuditRecordResponse>> getAuditRecords(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return ResponseEntity.ok(auditService.getRecords(from, to, limit));
+    }
+}
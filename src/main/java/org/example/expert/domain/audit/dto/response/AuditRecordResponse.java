@@ -0,0 +1,21 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class AuditRecordResponse {
+
+    private final long userId;
+    private final LocalDateTime requestTime;
+    private final String url;
+    private final String method;
+
+    public AuditRecordResponse(long userId, LocalDateTime requestTime, String url, String method) {
+        this.userId = userId;
+        this.requestTime = requestTime;
+        this.url = url;
+        this.method = method;
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.expert.domain.audit.journal;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 감사 로그의 URL 패턴, 메서드 이름 <-> id 사전
+ * 처음 보는 값만 dictionary.tsv에 "id\tvalue" 한 줄로 추가하고, 레코드에는 id만 기록한다.
+ * id는 1부터 시작한다. (0은 알 수 없음)
+ * idOf는 메모리에서 id만 발급하고, 파일 추가는 journal writer 스레드가 레코드를 쓰기 전에 flush로 한다.
+ */
+public class AuditDictionary {
+
+    static final String FILE_NAME = "dictionary.tsv";
+
+    private final Path file;
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> values = new ArrayList<>();
+    // 아직 파일에 추가하지 않은 id (values 기준)
+    private int savedCount;
+    private volatile boolean dirty;
+
+    private AuditDictionary(Path file) {
+        this.file = file;
+    }
+
+    public static AuditDictionary load(Path directory) throws IOException {
+        AuditDictionary dictionary = new AuditDictionary(directory.resolve(FILE_NAME));
+        dictionary.values.add(null);
+        if (Files.exists(dictionary.file)) {
+            for (String line : Files.readAllLines(dictionary.file, StandardCharsets.UTF_8)) {
+                int tab = line.indexOf('\t');
+                if (tab < 0) {
+                    continue;
+                }
+                int id = Integer.parseInt(line.substring(0, tab));
+                String value = line.substring(tab + 1);
+                while (dictionary.values.size() <= id) {
+                    dictionary.values.add(null);
+                }
+                dictionary.values.set(id, value);
+                dictionary.ids.put(value, id);
+            }
+        }
+        dictionary.savedCount = dictionary.values.size();
+        return dictionary;
+    }
+
+    /**
+     * 값의 id 반환, 처음 보는 값이면 새 id를 발급 (파일 I/O 없음)
+     */
+    public int idOf(String value) {
+        Integer id = ids.get(value);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(value);
+            if (id != null) {
+                return id;
+            }
+            int newId = values.size();
+            values.add(value);
+            ids.put(value, newId);
+            dirty = true;
+            return newId;
+        }
+    }
+
+    /**
+     * 새로 발급한 id를 파일에 추가 (journal writer 스레드에서 호출)
+     */
+    public void flush() throws IOException {
+        if (!dirty) {
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        int count;
+        synchronized (this) {
+            dirty = false;
+            count = values.size();
+            for (int id = savedCount; id < count; id++) {
+                lines.add(id + "\t" + values.get(id).replace('\n', ' ').replace('\t', ' '));
+            }
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            dirty = true;
+            throw e;
+        }
+        synchronized (this) {
+            savedCount = count;
+        }
+    }
+
+    public synchronized String valueOf(int id) {
+        return id > 0 && id < values.size() ? values.get(id) : null;
+    }
+}
@@ -0,0 +1,288 @@
+package org.example.expert.domain.audit.journal;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 관리자 API 감사 로그 journal
+ *
+ * <p>요청 스레드는 레코드를 ring buffer 슬롯에 쓰고 바로 반환한다. (여러 생산자, 슬롯은 CAS로 확보)
+ * 전용 writer 스레드 하나만 ring buffer를 읽어 메모리 매핑된 segment 파일에 24바이트 레코드로 이어 쓴다.
+ * segment가 가득 차거나 첫 레코드로부터 하루가 지나면 새 파일(audit-{첫 레코드 시각}.seg)로 넘어가고,
+ * 보관 기간(audit.journal.retention-days)이 지난 segment는 매일 삭제한다.
+ * ring buffer가 가득 차면 레코드를 버리고 audit.journal.dropped 지표를 올린다.
+ * 사전 id와 segment 순서는 한 프로세스만 쓴다는 전제이므로, 디렉터리의 .lock 파일을 잠근 JVM만 기록한다.
+ * 여러 인스턴스를 띄우면 audit.journal.dir을 인스턴스마다 다르게 지정해야 한다.
+ */
+@Slf4j
+@Component
+public class AuditJournal {
+
+    private static final long EMPTY = -1;
+    static final String LOCK_FILE_NAME = ".lock";
+    private static final long SEGMENT_MAX_AGE_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int retentionDays;
+    private final long forceIntervalNanos;
+    private final int mask;
+
+    // ring buffer
+    private final long[] userIds;
+    private final long[] epochMillis;
+    private final int[] urlIds;
+    private final int[] methodIds;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+
+    private final Counter dropped;
+    private AuditDictionary dictionary;
+    private FileChannel lockChannel;
+    private MappedByteBuffer segment;
+    private long segmentStartMillis;
+    private volatile boolean running;
+    private Thread writer;
+
+    public AuditJournal(MeterRegistry meterRegistry,
+                        @Value("${audit.journal.dir:${user.home}/.expert/audit}") String directory,
+                        @Value("${audit.journal.segment-mb:64}") int segmentMb,
+                        @Value("${audit.journal.ring-size:8192}") int ringSize,
+                        @Value("${audit.journal.force-interval-millis:1000}") long forceIntervalMillis,
+                        @Value("${audit.journal.retention-days:90}") int retentionDays) {
+        int capacity = Integer.highestOneBit(Math.max(2, ringSize - 1) << 1);
+        this.directory = Path.of(directory);
+        this.segmentBytes = segmentMb * 1024 * 1024 / AuditRecord.SIZE * AuditRecord.SIZE;
+        this.forceIntervalNanos = TimeUnit.MILLISECONDS.toNanos(forceIntervalMillis);
+        this.retentionDays = retentionDays;
+        this.mask = capacity - 1;
+        this.userIds = new long[capacity];
+        this.epochMillis = new long[capacity];
+        this.urlIds = new int[capacity];
+        this.methodIds = new int[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, EMPTY);
+        }
+        this.dropped = meterRegistry.counter("audit.journal.dropped");
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            Files.createDirectories(directory);
+            if (!lockDirectory()) {
+                log.error("다른 프로세스가 사용 중인 감사 로그 디렉터리라 감사 로그를 기록하지 않습니다. "
+                        + "audit.journal.dir을 인스턴스마다 다르게 지정하세요. dir={}", directory);
+                return;
+            }
+            dictionary = AuditDictionary.load(directory);
+        } catch (IOException e) {
+            log.error("감사 로그 디렉터리를 열 수 없어 감사 로그를 기록하지 않습니다. dir={}", directory, e);
+            unlockDirectory();
+            return;
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "audit-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        unlockDirectory();
+    }
+
+    /**
+     * 감사 레코드 추가 (요청 스레드에서 호출, 블로킹 없음)
+     *
+     * @param userId 요청한 유저 id
+     * @param url 요청 URL 패턴
+     * @param method 호출된 핸들러 메서드
+     */
+    public void append(long userId, String url, String method) {
+        append(userId, url, method, System.currentTimeMillis());
+    }
+
+    void append(long userId, String url, String method, long now) {
+        if (!running) {
+            return;
+        }
+        int urlId = dictionary.idOf(url);
+        int methodId = dictionary.idOf(method);
+
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed > mask) {
+                dropped.increment();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) (sequence & mask);
+        userIds[index] = userId;
+        epochMillis[index] = now;
+        urlIds[index] = urlId;
+        methodIds[index] = methodId;
+        published.set(index, sequence);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public AuditDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * 시간 범위 [from, to) 의 레코드 조회
+     */
+    public List<AuditRecord> scan(long from, long to, int limit) throws IOException {
+        return new AuditJournalReader(directory).scan(from, to, limit);
+    }
+
+    /**
+     * 보관 기간이 지난 segment 삭제
+     */
+    @Scheduled(cron = "${audit.journal.retention-cron:0 0 4 * * *}")
+    public void deleteExpiredSegments() throws IOException {
+        long cutoff = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(retentionDays);
+        for (Path path : new AuditJournalReader(directory).segmentsBefore(cutoff)) {
+            Files.deleteIfExists(path);
+            log.info("만료된 감사 로그 segment 삭제 - {}", path.getFileName());
+        }
+    }
+
+    /**
+     * 디렉터리 잠금 (프로세스가 끝나면 OS가 풀어준다)
+     *
+     * @return 다른 프로세스(또는 같은 JVM의 다른 journal)가 잠그고 있으면 false
+     */
+    private boolean lockDirectory() throws IOException {
+        FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE_NAME),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            if (channel.tryLock() != null) {
+                lockChannel = channel;
+                return true;
+            }
+        } catch (OverlappingFileLockException e) {
+            // 같은 JVM에서 이미 잠금
+        }
+        channel.close();
+        return false;
+    }
+
+    private void unlockDirectory() {
+        if (lockChannel == null) {
+            return;
+        }
+        try {
+            // 채널을 닫으면 잠금도 풀린다.
+            lockChannel.close();
+        } catch (IOException e) {
+            log.warn("감사 로그 디렉터리 잠금 해제 실패 dir={}", directory, e);
+        }
+        lockChannel = null;
+    }
+
+    private void runWriter() {
+        long lastForcedAt = System.nanoTime();
+        while (running || consumed < claimed.get()) {
+            int written = drain();
+            if (segment != null && System.nanoTime() - lastForcedAt >= forceIntervalNanos) {
+                segment.force();
+                lastForcedAt = System.nanoTime();
+            }
+            if (written == 0) {
+                if (!running) {
+                    break;
+                }
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+        if (segment != null) {
+            segment.force();
+        }
+    }
+
+    private int drain() {
+        int written = 0;
+        long next = consumed;
+        while (true) {
+            int index = (int) (next & mask);
+            if (published.get(index) != next) {
+                break;
+            }
+            try {
+                // 레코드가 참조하는 새 사전 값을 먼저 파일에 남긴다. (새 값이 없으면 바로 반환)
+                dictionary.flush();
+                write(userIds[index], epochMillis[index], urlIds[index], methodIds[index]);
+            } catch (IOException e) {
+                log.error("감사 로그 기록 실패", e);
+                dropped.increment();
+            }
+            published.set(index, EMPTY);
+            consumed = ++next;
+            written++;
+        }
+        return written;
+    }
+
+    private void write(long userId, long epochMillis, int urlId, int methodId) throws IOException {
+        if (segment == null || segment.remaining() < AuditRecord.SIZE
+                || epochMillis - segmentStartMillis >= SEGMENT_MAX_AGE_MILLIS) {
+            openSegment(epochMillis);
+        }
+        int position = segment.position();
+        segment.putLong(position, userId);
+        segment.putInt(position + 16, urlId);
+        segment.putInt(position + 20, methodId);
+        // epochMillis가 0이 아니면 완성된 레코드이므로 마지막에 쓴다.
+        segment.putLong(position + 8, epochMillis);
+        segment.position(position + AuditRecord.SIZE);
+    }
+
+    private void openSegment(long startMillis) throws IOException {
+        if (segment != null) {
+            segment.force();
+        }
+        Path path = AuditJournalReader.segmentPath(directory, startMillis);
+        while (Files.exists(path)) {
+            path = AuditJournalReader.segmentPath(directory, ++startMillis);
+        }
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        }
+        segmentStartMillis = startMillis;
+    }
+}
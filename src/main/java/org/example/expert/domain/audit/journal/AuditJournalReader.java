@@ -0,0 +1,133 @@
+package org.example.expert.domain.audit.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 감사 로그 segment 읽기 도구
+ *
+ * <p>segment 파일 이름(audit-{첫 레코드 시각}.seg)으로 시간 범위에 들어가지 않는 segment는 열지 않는다.
+ * 레코드의 epochMillis가 0이면 그 segment의 끝이다.
+ *
+ * <pre>
+ * 사용법: java -cp app.jar org.example.expert.domain.audit.journal.AuditJournalReader &lt;dir&gt; [fromMillis] [toMillis]
+ * 출력: epochMillis \t ISO 시각 \t userId \t url \t method (탭 구분)
+ * </pre>
+ */
+public class AuditJournalReader {
+
+    static final String SEGMENT_PREFIX = "audit-";
+    static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+
+    public AuditJournalReader(Path directory) {
+        this.directory = directory;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: AuditJournalReader <dir> [fromMillis] [toMillis]");
+            System.exit(1);
+        }
+        AuditJournalReader reader = new AuditJournalReader(Path.of(args[0]));
+        long from = args.length > 1 ? Long.parseLong(args[1]) : 0;
+        long to = args.length > 2 ? Long.parseLong(args[2]) : Long.MAX_VALUE;
+
+        AuditDictionary dictionary = AuditDictionary.load(reader.directory);
+        for (AuditRecord record : reader.scan(from, to, Integer.MAX_VALUE)) {
+            System.out.println(record.epochMillis() + "\t" + Instant.ofEpochMilli(record.epochMillis()) + "\t"
+                    + record.userId() + "\t" + dictionary.valueOf(record.urlId()) + "\t"
+                    + dictionary.valueOf(record.methodId()));
+        }
+    }
+
+    /**
+     * 시간 범위 [from, to) 의 레코드를 시간 순으로 반환
+     *
+     * @param limit 최대 개수
+     */
+    public List<AuditRecord> scan(long from, long to, int limit) throws IOException {
+        List<Path> segments = segments();
+        List<AuditRecord> records = new ArrayList<>();
+
+        for (int i = 0; i < segments.size() && records.size() < limit; i++) {
+            long segmentStart = startMillis(segments.get(i));
+            long nextSegmentStart = i + 1 < segments.size() ? startMillis(segments.get(i + 1)) : Long.MAX_VALUE;
+            if (segmentStart >= to || nextSegmentStart < from) {
+                continue;
+            }
+
+            try (FileChannel channel = FileChannel.open(segments.get(i), StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                readSegment(buffer, from, to, limit, records);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * 모든 레코드가 cutoff 이전인 segment 목록 (다음 segment가 cutoff 이전에 시작한 segment)
+     * 가장 최근 segment는 아직 쓰는 중일 수 있으므로 포함하지 않는다.
+     */
+    public List<Path> segmentsBefore(long cutoff) throws IOException {
+        List<Path> segments = segments();
+        List<Path> expired = new ArrayList<>();
+        for (int i = 0; i + 1 < segments.size() && startMillis(segments.get(i + 1)) <= cutoff; i++) {
+            expired.add(segments.get(i));
+        }
+        return expired;
+    }
+
+    private static void readSegment(ByteBuffer buffer, long from, long to, int limit, List<AuditRecord> records) {
+        for (int position = 0; position + AuditRecord.SIZE <= buffer.limit() && records.size() < limit;
+             position += AuditRecord.SIZE) {
+            long epochMillis = buffer.getLong(position + 8);
+            if (epochMillis == 0) {
+                return;
+            }
+            if (epochMillis >= from && epochMillis < to) {
+                records.add(new AuditRecord(
+                        buffer.getLong(position),
+                        epochMillis,
+                        buffer.getInt(position + 16),
+                        buffer.getInt(position + 20)
+                ));
+            }
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(AuditJournalReader::isSegment)
+                    .sorted((a, b) -> Long.compare(startMillis(a), startMillis(b)))
+                    .toList();
+        }
+    }
+
+    static Path segmentPath(Path directory, long startMillis) {
+        return directory.resolve(SEGMENT_PREFIX + startMillis + SEGMENT_SUFFIX);
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long startMillis(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.expert.domain.audit.journal;
+
+/**
+ * 감사 로그 레코드 (파일에는 24바이트 고정 길이로 저장)
+ * userId(8) | epochMillis(8) | urlId(4) | methodId(4)
+ */
+public record AuditRecord(long userId, long epochMillis, int urlId, int methodId) {
+
+    public static final int SIZE = 24;
+}
@@ -0,0 +1,53 @@
+package org.example.expert.domain.audit.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AuditRecordResponse;
+import org.example.expert.domain.audit.journal.AuditDictionary;
+import org.example.expert.domain.audit.journal.AuditJournal;
+import org.example.expert.domain.audit.journal.AuditRecord;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AuditService {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final AuditJournal auditJournal;
+
+    public List<AuditRecordResponse> getRecords(LocalDateTime from, LocalDateTime to, int limit) {
+        if (!from.isBefore(to)) {
+            throw new InvalidRequestException("from은 to보다 이전이어야 합니다.");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("limit은 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+        List<AuditRecord> records;
+        try {
+            records = auditJournal.scan(from.atZone(zone).toInstant().toEpochMilli(),
+                    to.atZone(zone).toInstant().toEpochMilli(), limit);
+        } catch (IOException | UncheckedIOException e) {
+            throw new ServerException("감사 로그를 읽을 수 없습니다.");
+        }
+
+        AuditDictionary dictionary = auditJournal.getDictionary();
+        return records.stream()
+                .map(record -> new AuditRecordResponse(
+                        record.userId(),
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(record.epochMillis()), zone),
+                        dictionary.valueOf(record.urlId()),
+                        dictionary.valueOf(record.methodId())))
+                .toList();
+    }
+}
@@ -11,10 +11,21 @@ import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserEmailFilter;
+import org.example.expert.domain.user.repository.UserNicknameIndex;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 회원가입/로그인
+ *
+ * <p>BCrypt는 느리므로 DB 커넥션을 잡은 채로 기다리지 않도록 트랜잭션 밖에서 실행한다.
+ * (조회/저장은 repository 메서드 각자의 짧은 트랜잭션, 비밀번호 재해시는 별도 트랜잭션)
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -23,12 +34,19 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final UserNicknameIndex userNicknameIndex;
+    private final UserEmailFilter userEmailFilter;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse signup(SignupRequest signupRequest) {
 
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
-            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        // filter에 확실히 없는 이메일이면 조회를 건너뛴다. (동시 가입은 unique 제약으로 막힘)
+        if (userEmailFilter.mightContain(signupRequest.getEmail())) {
+            if (userRepository.existsByEmail(signupRequest.getEmail())) {
+                throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+            }
+            userEmailFilter.recordFalsePositive();
         }
 
         String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
@@ -41,13 +59,25 @@ public class AuthService {
                 userRole,
                 signupRequest.getNickname()
         );
-        User savedUser = userRepository.save(newUser);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(newUser);
+        } catch (DataIntegrityViolationException e) {
+            // 이메일 unique 제약 위반일 때만 중복으로 응답 (다른 제약 위반은 그대로 던진다)
+            if (userRepository.existsByEmail(signupRequest.getEmail())) {
+                throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+            }
+            throw e;
+        }
+        userEmailFilter.add(savedUser.getEmail());
+        userNicknameIndex.add(savedUser.getId(), savedUser.getNickname());
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole, signupRequest.getNickname());
 
         return new SignupResponse(bearerToken);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SigninResponse signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
@@ -57,8 +87,20 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // BCrypt cost 설정이 바뀌었으면 로그인에 성공한 김에 새 cost로 다시 해시
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            rehash(user.getId(), user.getPassword(), passwordEncoder.encode(signinRequest.getPassword()));
+        }
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getNickname());
 
         return new SigninResponse(bearerToken);
     }
+
+    private void rehash(Long userId, String oldPassword, String newPassword) {
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(userId)
+                // 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않는다.
+                .filter(user -> user.getPassword().equals(oldPassword))
+                .ifPresent(user -> user.changePassword(newPassword)));
+    }
 }
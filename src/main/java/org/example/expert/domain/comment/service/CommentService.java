@@ -39,6 +39,7 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoRepository.increaseCommentCount(todo.getId());
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -0,0 +1,93 @@
+package org.example.expert.domain.common.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 항목별 만료 시각이 있는 크기 제한 LRU 캐시
+ *
+ * <p>key 해시로 나눈 segment마다 access-order LinkedHashMap을 두어 락 경합을 줄인다.
+ * segment가 가득 차면 그 segment에서 가장 오래 사용되지 않은 항목을 제거하고, 만료된 항목은 조회할 때 제거한다.
+ * maxEntries가 0 이하면 아무것도 저장하지 않는다.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+
+    @SuppressWarnings("unchecked")
+    public ExpiringLruCache(int maxEntries) {
+        int segmentCount = Math.max(1, Math.min(SEGMENTS, maxEntries));
+        int segmentCapacity = Math.max(0, maxEntries / segmentCount);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+    }
+
+    /**
+     * @param now 현재 시각 (epoch millis)
+     * @return 만료되지 않은 값, 없으면 null
+     */
+    public V get(K key, long now) {
+        Segment<K, V> segment = segmentOf(key);
+        synchronized (segment) {
+            Entry<V> entry = segment.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= now) {
+                segment.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    /**
+     * @param expiresAt 만료 시각 (epoch millis)
+     */
+    public void put(K key, V value, long expiresAt) {
+        Segment<K, V> segment = segmentOf(key);
+        if (segment.capacity == 0) {
+            return;
+        }
+        synchronized (segment) {
+            segment.put(key, new Entry<>(value, expiresAt));
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment<K, V> segmentOf(K key) {
+        int hash = key.hashCode();
+        return segments[((hash ^ (hash >>> 16)) & 0x7fffffff) % segments.length];
+    }
+
+    private static class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.expert.domain.common.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * direct ByteBuffer slab에 바이트 배열을 저장하는 LRU 캐시
+ *
+ * <p>slab을 고정 크기 chunk로 나누고, 값 하나는 필요한 개수만큼 chunk를 나눠 쓴다.
+ * 값 자체는 힙 밖(off-heap)에 있으므로 캐시 크기가 커져도 GC 대상 객체는 key별 메타데이터뿐이다.
+ * 공간이 부족하면 가장 오래 사용되지 않은 항목부터 제거한다.
+ */
+public class OffHeapSlabCache {
+
+    private final int chunkSize;
+    private final int maxChunksPerEntry;
+    private final ByteBuffer slab;
+    private final int[] freeChunks;
+    private int freeCount;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(1024, 0.75f, true);
+
+    /**
+     * @param capacityBytes 전체 slab 크기 (최대 1GB)
+     * @param chunkSize chunk 하나의 크기
+     * @param maxEntryBytes 저장할 수 있는 값 하나의 최대 크기
+     */
+    public OffHeapSlabCache(int capacityBytes, int chunkSize, int maxEntryBytes) {
+        if (capacityBytes < chunkSize || capacityBytes > (1 << 30)) {
+            throw new IllegalArgumentException("capacityBytes는 chunkSize 이상, 1GB 이하여야 합니다.");
+        }
+        int chunkCount = capacityBytes / chunkSize;
+
+        this.chunkSize = chunkSize;
+        this.maxChunksPerEntry = Math.min(chunkCount, (maxEntryBytes + chunkSize - 1) / chunkSize);
+        this.slab = ByteBuffer.allocateDirect(chunkCount * chunkSize);
+        this.freeChunks = new int[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            freeChunks[i] = chunkCount - 1 - i;
+        }
+        this.freeCount = chunkCount;
+    }
+
+    /**
+     * 값 저장 (같은 key가 있으면 교체)
+     *
+     * @param key key
+     * @param value 저장할 값
+     * @param group 묶음 단위 삭제에 사용할 값 (예: 작성자 id)
+     * @return 저장 여부 (값이 너무 크면 false)
+     */
+    public synchronized boolean put(long key, byte[] value, long group) {
+        int needed = Math.max(1, (value.length + chunkSize - 1) / chunkSize);
+        if (needed > maxChunksPerEntry) {
+            return false;
+        }
+
+        release(entries.remove(key));
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (freeCount < needed && eldest.hasNext()) {
+            Entry entry = eldest.next();
+            eldest.remove();
+            release(entry);
+        }
+
+        int[] chunks = new int[needed];
+        for (int i = 0; i < needed; i++) {
+            chunks[i] = freeChunks[--freeCount];
+            int offset = i * chunkSize;
+            slab.put(chunks[i] * chunkSize, value, offset, Math.min(chunkSize, value.length - offset));
+        }
+        entries.put(key, new Entry(chunks, value.length, group));
+        return true;
+    }
+
+    /**
+     * 값을 destination 배열에 복사
+     *
+     * @param key key
+     * @param destination 복사할 배열 (크기가 부족하면 복사하지 않음)
+     * @return 값의 길이, 없으면 -1
+     */
+    public synchronized int copyTo(long key, byte[] destination) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return -1;
+        }
+        if (entry.length > destination.length) {
+            return entry.length;
+        }
+        for (int i = 0; i < entry.chunks.length; i++) {
+            int offset = i * chunkSize;
+            slab.get(entry.chunks[i] * chunkSize, destination, offset, Math.min(chunkSize, entry.length - offset));
+        }
+        return entry.length;
+    }
+
+    public synchronized void remove(long key) {
+        release(entries.remove(key));
+    }
+
+    /**
+     * group 조건에 맞는 항목 모두 삭제
+     */
+    public synchronized void removeIf(LongPredicate groupMatcher) {
+        Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            if (groupMatcher.test(entry.group)) {
+                iterator.remove();
+                release(entry);
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int maxEntryBytes() {
+        return maxChunksPerEntry * chunkSize;
+    }
+
+    private void release(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        for (int chunk : entry.chunks) {
+            freeChunks[freeCount++] = chunk;
+        }
+    }
+
+    private record Entry(int[] chunks, int length, long group) {
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.expert.domain.common.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV를 한 행씩 읽는 reader
+ *
+ * <p>입력 전체를 메모리에 올리지 않고 Reader에서 한 글자씩 읽는다.
+ * 큰따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 이스케이프된 큰따옴표("")를 지원한다.
+ * 필드 하나가 maxFieldLength를 넘으면 IOException을 던져 메모리 사용량을 제한한다.
+ */
+public class CsvReader {
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final int maxFieldLength;
+    private final StringBuilder field = new StringBuilder();
+    private int pushedBack = Integer.MIN_VALUE;
+    private long lineNumber = 1;
+
+    public CsvReader(Reader reader, int maxFieldLength) {
+        this.reader = reader;
+        this.maxFieldLength = maxFieldLength;
+    }
+
+    /**
+     * 다음 행 읽기
+     *
+     * @return 필드 목록, 입력이 끝났으면 null
+     */
+    public List<String> readRow() throws IOException {
+        int c = read();
+        if (c == EOF) {
+            return null;
+        }
+        unread(c);
+
+        List<String> row = new ArrayList<>();
+        while (true) {
+            boolean quoted = false;
+            field.setLength(0);
+            c = read();
+            if (c == '"') {
+                quoted = true;
+                readQuoted();
+                c = read();
+            }
+            while (c != ',' && c != '\n' && c != '\r' && c != EOF) {
+                if (quoted) {
+                    throw new IOException("잘못된 CSV 형식입니다. line=" + lineNumber);
+                }
+                append(c);
+                c = read();
+            }
+            row.add(field.toString());
+
+            if (c == ',') {
+                continue;
+            }
+            if (c == '\r') {
+                int next = read();
+                if (next != '\n') {
+                    unread(next);
+                }
+            }
+            if (c != EOF) {
+                lineNumber++;
+            }
+            return row;
+        }
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    private void readQuoted() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == EOF) {
+                throw new IOException("닫히지 않은 큰따옴표가 있습니다. line=" + lineNumber);
+            }
+            if (c == '"') {
+                int next = read();
+                if (next != '"') {
+                    unread(next);
+                    return;
+                }
+            }
+            if (c == '\n') {
+                lineNumber++;
+            }
+            append(c);
+        }
+    }
+
+    private void append(int c) throws IOException {
+        if (field.length() >= maxFieldLength) {
+            throw new IOException("필드 길이가 너무 깁니다. line=" + lineNumber);
+        }
+        field.append((char) c);
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != Integer.MIN_VALUE) {
+            int c = pushedBack;
+            pushedBack = Integer.MIN_VALUE;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+}
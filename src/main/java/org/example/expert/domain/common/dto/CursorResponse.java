@@ -0,0 +1,42 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 페이징 응답
+ * 다음 페이지가 없으면 nextCursor는 null
+ */
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public CursorResponse(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * size + 1 개를 조회한 결과로 커서 응답 생성
+     *
+     * @param rows size + 1 개까지 조회된 목록
+     * @param size 한 페이지에 데이터 수
+     * @param cursorOf 마지막 항목에서 다음 커서를 만드는 함수
+     * @return 커서 페이징 응답
+     */
+    public static <T> CursorResponse<T> of(List<T> rows, int size, Function<T, KeysetCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? List.copyOf(rows.subList(0, size)) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+
+        return new CursorResponse<>(content, size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이징 위치
+ * (정렬 기준 시각, id) 쌍을 Base64URL 문자열로 인코딩해서 클라이언트에 전달한다.
+ */
+@Getter
+public class KeysetCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime timestamp;
+    private final Long id;
+
+    public KeysetCursor(LocalDateTime timestamp, Long id) {
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열 해석
+     *
+     * @param cursor 인코딩된 커서 (비어 있으면 첫 페이지)
+     * @return 해석된 커서, 첫 페이지이면 null
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new InvalidRequestException("잘못된 커서입니다.");
+            }
+            LocalDateTime timestamp = LocalDateTime.parse(decoded.substring(0, delimiterIndex));
+            Long id = Long.parseLong(decoded.substring(delimiterIndex + 1));
+            return new KeysetCursor(timestamp, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = timestamp + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
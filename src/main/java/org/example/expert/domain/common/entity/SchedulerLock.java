@@ -0,0 +1,33 @@
+package org.example.expert.domain.common.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 실행할 예약 작업의 잠금
+ * lockedUntil이 지나기 전까지는 다른 인스턴스가 같은 이름의 잠금을 얻을 수 없다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "scheduler_locks")
+public class SchedulerLock {
+
+    @Id
+    private String name;
+    private LocalDateTime lockedUntil;
+    private LocalDateTime lockedAt;
+    private String lockedBy;
+
+    public SchedulerLock(String name, LocalDateTime lockedAt, LocalDateTime lockedUntil, String lockedBy) {
+        this.name = name;
+        this.lockedAt = lockedAt;
+        this.lockedUntil = lockedUntil;
+        this.lockedBy = lockedBy;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.expert.domain.common.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+
+/**
+ * 페이징 응답의 전체 개수 계산 방식
+ * NONE: 전체 개수 없이 다음 페이지 여부만 응답 (Slice)
+ * APPROX: 짧은 시간 캐시된 전체 개수 사용
+ * EXACT: 요청마다 count 쿼리 실행
+ */
+public enum TotalMode {
+    NONE, APPROX, EXACT;
+
+    public static TotalMode of(String mode) {
+        if (mode == null) {
+            throw new InvalidRequestException("TotalMode가 null입니다.");
+        }
+        return Arrays.stream(TotalMode.values())
+                .filter(m -> m.name().equalsIgnoreCase(mode))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 total 값입니다. (none, approx, exact)"));
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.expert.domain.common.index;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 엔티티 문자열 컬럼의 NgramIndex 수명 관리
+ * 애플리케이션 시작 시 테이블 전체를 id 순서로 나눠 읽어 색인을 만들고, 이후에는 저장이 커밋될 때마다 추가한다.
+ * 다른 인스턴스에서 저장된 행은 refresh-interval-millis마다 (created_at, id) 인덱스로 마지막 갱신 이후 생성된 행을 읽어 추가한다.
+ * created_at은 커밋이 아닌 저장 시각이므로 REFRESH_OVERLAP만큼 겹쳐 읽는다. (이미 색인된 id는 무시)
+ * 색인이 만들어지기 전에는 search가 null을 반환하므로 호출하는 쪽에서 LIKE 조건으로 대신 조회한다.
+ */
+@Slf4j
+public abstract class EntityNgramIndex {
+
+    private static final int LOAD_CHUNK_SIZE = 5000;
+    // 긴 트랜잭션이나 인스턴스 간 시계 차이로 늦게 보이는 행을 놓치지 않도록 겹쳐 읽는 구간
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityPath<?> entity;
+    private final NumberPath<Long> idPath;
+    private final StringPath textPath;
+    private final DateTimePath<LocalDateTime> createdAtPath;
+    private final NgramIndex index;
+    private volatile boolean ready;
+    // 이 시각 이후에 생성된 행은 아직 색인되지 않았을 수 있다.
+    private volatile LocalDateTime watermark;
+
+    protected EntityNgramIndex(JPAQueryFactory queryFactory, EntityPath<?> entity, NumberPath<Long> idPath,
+                               StringPath textPath, DateTimePath<LocalDateTime> createdAtPath, int gramSize) {
+        this.queryFactory = queryFactory;
+        this.entity = entity;
+        this.idPath = idPath;
+        this.textPath = textPath;
+        this.createdAtPath = createdAtPath;
+        this.index = new NgramIndex(gramSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long lastId = 0;
+        while (true) {
+            List<Tuple> rows = queryFactory.select(idPath, textPath)
+                    .from(entity)
+                    .where(idPath.gt(lastId))
+                    .orderBy(idPath.asc())
+                    .limit(LOAD_CHUNK_SIZE)
+                    .fetch();
+
+            for (Tuple row : rows) {
+                index.add(row.get(idPath), row.get(textPath));
+            }
+            if (rows.size() < LOAD_CHUNK_SIZE) {
+                break;
+            }
+            lastId = rows.get(rows.size() - 1).get(idPath);
+        }
+
+        watermark = startedAt;
+        ready = true;
+        log.info("{} 색인 생성 완료 - 문서 수: {}", textPath, index.size());
+    }
+
+    /**
+     * 마지막 갱신 이후 생성된 행 색인 (다른 인스턴스에서 저장된 행 반영)
+     */
+    @Scheduled(fixedDelayString = "${search.index.refresh-interval-millis:10000}",
+            initialDelayString = "${search.index.refresh-interval-millis:10000}")
+    public void refresh() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime lastCreatedAt = watermark.minus(REFRESH_OVERLAP);
+        long lastId = 0;
+        int added = 0;
+        while (true) {
+            List<Tuple> rows = queryFactory.select(idPath, textPath, createdAtPath)
+                    .from(entity)
+                    .where(createdAtPath.gt(lastCreatedAt)
+                            .or(createdAtPath.eq(lastCreatedAt).and(idPath.gt(lastId))))
+                    .orderBy(createdAtPath.asc(), idPath.asc())
+                    .limit(LOAD_CHUNK_SIZE)
+                    .fetch();
+
+            for (Tuple row : rows) {
+                index.add(row.get(idPath), row.get(textPath));
+            }
+            added += rows.size();
+            if (rows.size() < LOAD_CHUNK_SIZE) {
+                break;
+            }
+            Tuple last = rows.get(rows.size() - 1);
+            lastCreatedAt = last.get(createdAtPath);
+            lastId = last.get(idPath);
+        }
+
+        watermark = startedAt;
+        log.debug("{} 색인 갱신 - 확인한 행 수: {}", textPath, added);
+    }
+
+    /**
+     * 저장된 문서 색인
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 색인한다.
+     */
+    public void add(Long id, String text) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index.add(id, text);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index.add(id, text);
+            }
+        });
+    }
+
+    /**
+     * 검색어가 포함된 문서 id 검색
+     *
+     * @param keyword 검색어
+     * @return id (내림차순), 색인이 아직 준비되지 않았으면 null
+     */
+    public long[] search(String keyword) {
+        if (!ready) {
+            return null;
+        }
+        return index.search(keyword);
+    }
+}
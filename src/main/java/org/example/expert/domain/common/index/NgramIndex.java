@@ -0,0 +1,170 @@
+package org.example.expert.domain.common.index;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 부분 문자열(contains) 검색용 n-gram 역색인
+ *
+ * <p>문자열을 NFC 정규화 + 소문자 변환한 뒤 n글자 단위로 잘라 id 목록(posting list)을 만든다.
+ * 한글은 음절 단위로 비교해야 하므로 자모가 분리되어 들어온 입력(NFD)도 NFC로 합쳐서 색인한다.
+ * 검색어의 n-gram posting list를 교집합한 뒤 원문 포함 여부로 한 번 더 확인하므로 결과에 오탐이 없다.
+ */
+public class NgramIndex {
+
+    private final int gramSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, String> documents = new HashMap<>();
+
+    public NgramIndex(int gramSize) {
+        if (gramSize < 1) {
+            throw new IllegalArgumentException("gramSize는 1 이상이어야 합니다.");
+        }
+        this.gramSize = gramSize;
+    }
+
+    /**
+     * 문서 색인 (이미 색인된 id는 무시)
+     *
+     * @param id 문서 id
+     * @param text 색인할 문자열
+     */
+    public void add(Long id, String text) {
+        if (id == null || text == null) {
+            return;
+        }
+        String normalized = normalize(text);
+
+        lock.writeLock().lock();
+        try {
+            if (documents.putIfAbsent(id, normalized) != null) {
+                return;
+            }
+            for (String gram : grams(normalized)) {
+                postings.computeIfAbsent(gram, key -> new PostingList()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 포함하는 문서 id 검색
+     * 검색어가 n글자보다 짧으면 posting list 대신 메모리의 원문을 순회한다.
+     *
+     * @param keyword 검색어
+     * @return 검색어를 포함하는 문서 id (내림차순)
+     */
+    public long[] search(String keyword) {
+        String normalized = normalize(keyword);
+
+        lock.readLock().lock();
+        try {
+            if (normalized.length() < gramSize) {
+                return documents.entrySet().stream()
+                        .filter(entry -> entry.getValue().contains(normalized))
+                        .mapToLong(Map.Entry::getKey)
+                        .map(id -> -id)
+                        .sorted()
+                        .map(id -> -id)
+                        .toArray();
+            }
+
+            PostingList[] lists = grams(normalized).stream()
+                    .map(postings::get)
+                    .toArray(PostingList[]::new);
+            if (Arrays.stream(lists).anyMatch(list -> list == null)) {
+                return new long[0];
+            }
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+            PostingList smallest = lists[0];
+            long[] result = new long[smallest.size];
+            int count = 0;
+            for (int i = smallest.size - 1; i >= 0; i--) {
+                long id = smallest.ids[i];
+                if (containsInAll(lists, id) && documents.get(id).contains(normalized)) {
+                    result[count++] = id;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + gramSize <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + gramSize));
+        }
+        return grams;
+    }
+
+    private static boolean containsInAll(PostingList[] lists, long id) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!lists[i].contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 오름차순으로 정렬된 id 배열
+     * id는 대부분 증가하는 순서로 들어오므로 보통은 끝에 추가된다.
+     */
+    private static class PostingList {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size == 0 || ids[size - 1] < id) {
+                ensureCapacity();
+                ids[size++] = id;
+                return;
+            }
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.common.repository;
+
+import org.example.expert.domain.common.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 만료된 잠금만 가져온다. (1이면 획득)
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedAt = :now, l.lockedUntil = :until, l.lockedBy = :lockedBy " +
+            "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquire(@Param("name") String name, @Param("now") LocalDateTime now,
+                @Param("until") LocalDateTime until, @Param("lockedBy") String lockedBy);
+}
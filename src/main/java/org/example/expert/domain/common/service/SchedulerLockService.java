@@ -0,0 +1,77 @@
+package org.example.expert.domain.common.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.entity.SchedulerLock;
+import org.example.expert.domain.common.repository.SchedulerLockRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 작업 DB 잠금
+ *
+ * <p>모든 인스턴스에서 같은 cron이 실행되므로, 잠금을 얻은 한 곳만 작업을 실행한다.
+ * 잠금은 작업이 끝나도 풀지 않고 lockFor가 지나야 만료된다. (인스턴스 간 시계 차이로 같은 작업이 다시 실행되지 않도록)
+ * 그래서 lockFor는 작업 시간보다 길고 실행 주기보다 짧게 잡는다.
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String lockedBy;
+
+    public SchedulerLockService(SchedulerLockRepository schedulerLockRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lockedBy = hostName();
+    }
+
+    /**
+     * 잠금 획득 시도
+     *
+     * @param name 작업 이름
+     * @param lockFor 잠금 유지 시간
+     * @return 획득했으면 true, 다른 인스턴스가 잡고 있으면 false
+     */
+    public boolean tryLock(String name, Duration lockFor) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(lockFor);
+        Boolean acquired = transactionTemplate.execute(status ->
+                schedulerLockRepository.acquire(name, now, until, lockedBy) == 1);
+        if (Boolean.TRUE.equals(acquired)) {
+            return true;
+        }
+        return !schedulerLockRepository.existsById(name) && insert(name, now, until);
+    }
+
+    private boolean insert(String name, LocalDateTime now, LocalDateTime until) {
+        try {
+            // 처음 실행하는 작업은 잠금 행을 만든다. (동시에 만들면 PK 충돌로 한 곳만 성공)
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLockRepository.saveAndFlush(new SchedulerLock(name, now, until, lockedBy)));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("다른 인스턴스가 먼저 잠금을 생성함 - 작업: {}", name);
+            return false;
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
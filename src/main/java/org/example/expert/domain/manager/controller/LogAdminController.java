@@ -0,0 +1,58 @@
+package org.example.expert.domain.manager.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.manager.dto.response.LogDailyRollupResponse;
+import org.example.expert.domain.manager.dto.response.LogResponse;
+import org.example.expert.domain.manager.service.LogQueryService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class LogAdminController {
+
+    private final LogQueryService logQueryService;
+
+    /**
+     * 담당자 등록 로그 커서 페이징 조회 (발생 시각 내림차순)
+     *
+     * @param from 조회 시작일
+     * @param to 조회 종료일
+     * @param action 성공/실패 필터
+     * @param cursor 이전 페이지의 nextCursor (비어 있으면 첫 페이지)
+     * @param size 한 페이지에 데이터 수
+     * @return 커서 페이징된 로그 목록
+     */
+    @GetMapping("/admin/logs")
+    public ResponseEntity<CursorResponse<LogResponse>> getLogs(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(logQueryService.getLogs(from, to, action, cursor, size));
+    }
+
+    /**
+     * 담당자 등록 일별 성공/실패 집계 조회
+     *
+     * @param from 조회 시작일
+     * @param to 조회 종료일
+     * @return 일별 집계 목록 (최신 날짜부터)
+     */
+    @GetMapping("/admin/logs/rollups")
+    public ResponseEntity<List<LogDailyRollupResponse>> getDailyRollups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(logQueryService.getDailyRollups(from, to));
+    }
+}
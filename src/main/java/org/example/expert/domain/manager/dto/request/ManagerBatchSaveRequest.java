@@ -0,0 +1,22 @@
+package org.example.expert.domain.manager.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManagerBatchSaveRequest {
+
+    public static final int MAX_SIZE = 500;
+
+    @NotEmpty
+    @Size(max = MAX_SIZE)
+    private List<@NotNull Long> managerUserIds; // 일정 작성자가 배치하는 유저 id 목록
+}
@@ -0,0 +1,20 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.manager.entity.LogDailyRollup;
+
+import java.time.LocalDate;
+
+@Getter
+public class LogDailyRollupResponse {
+
+    private final LocalDate logDate;
+    private final long successCount;
+    private final long failureCount;
+
+    public LogDailyRollupResponse(LogDailyRollup rollup) {
+        this.logDate = rollup.getLogDate();
+        this.successCount = rollup.getSuccessCount();
+        this.failureCount = rollup.getFailureCount();
+    }
+}
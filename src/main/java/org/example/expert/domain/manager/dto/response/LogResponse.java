@@ -0,0 +1,22 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.manager.entity.Log;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class LogResponse {
+
+    private final Long id;
+    private final String action;
+    private final String message;
+    private final LocalDateTime createdAt;
+
+    public LogResponse(Log log) {
+        this.id = log.getId();
+        this.action = log.getAction();
+        this.message = log.getMessage();
+        this.createdAt = log.getCreatedAt();
+    }
+}
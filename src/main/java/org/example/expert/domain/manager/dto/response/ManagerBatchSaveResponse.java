@@ -0,0 +1,18 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ManagerBatchSaveResponse {
+
+    private final List<ManagerSaveResponse> managers;
+    // 이미 담당자로 등록되어 있어서 건너뛴 유저 id
+    private final List<Long> skippedUserIds;
+
+    public ManagerBatchSaveResponse(List<ManagerSaveResponse> managers, List<Long> skippedUserIds) {
+        this.managers = managers;
+        this.skippedUserIds = skippedUserIds;
+    }
+}
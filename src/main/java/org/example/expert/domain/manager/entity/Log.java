@@ -3,30 +3,58 @@ package org.example.expert.domain.manager.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+/**
+ * 담당자 등록 로그
+ * logDate(발생일)가 파티션 키 역할을 한다. 조회는 logDate 범위로 인덱스 구간을 좁히고, 보관 기간 정리는 날짜 단위로 삭제한다.
+ */
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "log")
-@EntityListeners(AuditingEntityListener.class)
+@Table(name = "log", indexes = {
+        @Index(name = "idx_log_log_date_created_at_id", columnList = "log_date, created_at, id")
+})
 public class Log {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public static final String ACTION_SUCCESS = "성공";
+    public static final String ACTION_FAILURE = "실패";
+    private static final int MESSAGE_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "log_seq")
+    @SequenceGenerator(name = "log_seq", sequenceName = "log_seq", allocationSize = 50)
     private Long id;
 
     private String action;
+    // 예외 메시지가 그대로 들어오므로 컬럼 길이로 잘라서 저장한다. (긴 메시지 하나로 batch 전체가 실패하지 않도록)
+    @Column(length = MESSAGE_LENGTH)
     private String message;
 
-    @CreatedDate
+    // log_date 컬럼 추가 전에 쌓인 로그는 null이며, 시작 시 created_at 날짜로 채운다. (LogRetentionService)
+    @Column(updatable = false)
+    private LocalDate logDate;
+
+    // 비동기로 저장되므로 저장 시각이 아닌 로그 발생 시각을 직접 넣는다.
     @Column(updatable = false)
     private LocalDateTime createdAt;
 
     public Log(String action, String message) {
+        this(action, message, LocalDateTime.now());
+    }
+
+    public Log(String action, String message, LocalDateTime createdAt) {
         this.action = action;
-        this.message = message;
+        this.message = message != null && message.length() > MESSAGE_LENGTH
+                ? message.substring(0, MESSAGE_LENGTH)
+                : message;
+        this.createdAt = createdAt;
+        this.logDate = createdAt.toLocalDate();
+    }
+
+    public boolean isSuccess() {
+        return ACTION_SUCCESS.equals(action);
     }
 }
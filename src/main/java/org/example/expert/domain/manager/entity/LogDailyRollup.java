@@ -0,0 +1,31 @@
+package org.example.expert.domain.manager.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 담당자 등록 로그 일별 성공/실패 집계
+ * 로그 batch insert와 같은 트랜잭션에서 증분으로 갱신되며, 원본 로그가 보관 기간이 지나 삭제돼도 남는다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "log_daily_rollups")
+public class LogDailyRollup {
+
+    @Id
+    private LocalDate logDate;
+    private long successCount;
+    private long failureCount;
+
+    public LogDailyRollup(LocalDate logDate, long successCount, long failureCount) {
+        this.logDate = logDate;
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+    }
+}
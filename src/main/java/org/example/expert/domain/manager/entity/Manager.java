@@ -9,10 +9,17 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+// 같은 유저를 한 할 일에 두 번 등록하지 못하게 막고, 담당 할 일 조회 인덱스로도 쓴다.
+@Table(name = "managers", uniqueConstraints = {
+        @UniqueConstraint(name = Manager.UNIQUE_USER_TODO, columnNames = {"user_id", "todo_id"})
+})
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public static final String UNIQUE_USER_TODO = "uk_managers_user_id_todo_id";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "managers_seq")
+    @SequenceGenerator(name = "managers_seq", sequenceName = "managers_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,10 @@
+package org.example.expert.domain.manager.enums;
+
+/**
+ * 로그 대기열이 가득 찼을 때 처리 방식
+ * 호출한 스레드에서 바로 저장하는 방식은 호출한 쪽 트랜잭션이 열린 채로 커넥션을 하나 더 빌리게 되므로 두지 않는다.
+ */
+public enum LogOverflowPolicy {
+    DROP_NEWEST,  // 새 로그를 버림
+    DROP_OLDEST   // 가장 오래된 로그를 버리고 새 로그를 넣음
+}
@@ -0,0 +1,29 @@
+package org.example.expert.domain.manager.repository;
+
+import org.example.expert.domain.manager.entity.LogDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface LogDailyRollupRepository extends JpaRepository<LogDailyRollup, LocalDate> {
+
+    @Modifying
+    @Query("UPDATE LogDailyRollup r SET r.successCount = r.successCount + :success, " +
+            "r.failureCount = r.failureCount + :failure WHERE r.logDate = :logDate")
+    int increase(@Param("logDate") LocalDate logDate, @Param("success") long success, @Param("failure") long failure);
+
+    // 로그 테이블 기준으로 집계를 다시 계산 (log_date를 나중에 채운 날짜용)
+    @Modifying
+    @Query("UPDATE LogDailyRollup r SET " +
+            "r.successCount = (SELECT COUNT(l) FROM Log l WHERE l.logDate = r.logDate AND l.action = :success), " +
+            "r.failureCount = (SELECT COUNT(l) FROM Log l WHERE l.logDate = r.logDate " +
+            "AND (l.action IS NULL OR l.action <> :success)) " +
+            "WHERE r.logDate = :logDate")
+    int recount(@Param("logDate") LocalDate logDate, @Param("success") String success);
+
+    List<LogDailyRollup> findAllByLogDateBetweenOrderByLogDateDesc(LocalDate from, LocalDate to);
+}
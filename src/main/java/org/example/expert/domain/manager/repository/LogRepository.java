@@ -2,7 +2,34 @@ package org.example.expert.domain.manager.repository;
 
 import org.example.expert.domain.manager.entity.Log;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface LogRepository extends JpaRepository<Log, Long> {
+import java.time.LocalDate;
+import java.util.List;
 
+public interface LogRepository extends JpaRepository<Log, Long>, QLogRepository {
+
+    @Query("SELECT DISTINCT l.logDate FROM Log l WHERE l.logDate < :before ORDER BY l.logDate")
+    List<LocalDate> findLogDatesBefore(@Param("before") LocalDate before);
+
+    @Modifying
+    @Query("DELETE FROM Log l WHERE l.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("SELECT MIN(l.id) FROM Log l WHERE l.logDate IS NULL")
+    Long findMinIdWithoutLogDate();
+
+    @Query("SELECT MAX(l.id) FROM Log l WHERE l.logDate IS NULL")
+    Long findMaxIdWithoutLogDate();
+
+    @Query("SELECT DISTINCT CAST(l.createdAt AS LocalDate) FROM Log l WHERE l.logDate IS NULL AND l.createdAt IS NOT NULL")
+    List<LocalDate> findCreatedDatesWithoutLogDate();
+
+    // log_date가 없는 로그를 created_at 날짜로 채움 (logDate는 updatable = false라 native로 갱신)
+    @Modifying
+    @Query(value = "UPDATE log SET log_date = CAST(created_at AS DATE) " +
+            "WHERE log_date IS NULL AND created_at IS NOT NULL AND id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int backfillLogDate(@Param("fromId") long fromId, @Param("toId") long toId);
 }
@@ -0,0 +1,13 @@
+package org.example.expert.domain.manager.repository;
+
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.manager.entity.Log;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface QLogRepository {
+    List<Log> findByLogDateBetweenAfter(LocalDate from, LocalDate to, String action, KeysetCursor cursor, int limit);
+
+    List<Long> findIdsByLogDate(LocalDate logDate, int limit);
+}
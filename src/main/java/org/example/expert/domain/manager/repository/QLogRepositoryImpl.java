@@ -0,0 +1,77 @@
+package org.example.expert.domain.manager.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.manager.entity.Log;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import static org.example.expert.domain.manager.entity.QLog.log;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class QLogRepositoryImpl implements QLogRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 발생일 구간의 로그 커서 페이징 조회
+     * (발생일, 발생 시각, id) 내림차순이며, logDate 조건으로 (log_date, created_at, id) 인덱스에서 해당 날짜 구간만
+     * 인덱스 순서 그대로 읽는다. (logDate는 발생 시각의 날짜이므로 커서 조건은 (발생 시각, id)만으로 충분)
+     *
+     * @param from 조회 시작일
+     * @param to 조회 종료일
+     * @param action 성공/실패 필터, 없으면 전체
+     * @param cursor 마지막으로 조회한 (발생 시각, id), 첫 페이지이면 null
+     * @param limit 조회할 최대 개수
+     * @return 로그 목록
+     */
+    @Override
+    public List<Log> findByLogDateBetweenAfter(LocalDate from, LocalDate to, String action, KeysetCursor cursor, int limit) {
+        LocalDate upper = cursor == null || cursor.getTimestamp().toLocalDate().isAfter(to)
+                ? to
+                : cursor.getTimestamp().toLocalDate();
+
+        return queryFactory
+                .selectFrom(log)
+                .where(
+                        log.logDate.between(from, upper),
+                        actionEq(action),
+                        after(cursor)
+                )
+                .orderBy(log.logDate.desc(), log.createdAt.desc(), log.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 하루치 로그 id를 오름차순으로 limit개 조회 (보관 기간 정리 시 나눠서 삭제)
+     */
+    @Override
+    public List<Long> findIdsByLogDate(LocalDate logDate, int limit) {
+        return queryFactory
+                .select(log.id)
+                .from(log)
+                .where(log.logDate.eq(logDate))
+                .orderBy(log.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression actionEq(String action) {
+        return StringUtils.hasText(action) ? log.action.eq(action) : null;
+    }
+
+    private BooleanExpression after(KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return log.createdAt.lt(cursor.getTimestamp())
+                .or(log.createdAt.eq(cursor.getTimestamp()).and(log.id.lt(cursor.getId())));
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.expert.domain.manager.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.LogDailyRollupResponse;
+import org.example.expert.domain.manager.dto.response.LogResponse;
+import org.example.expert.domain.manager.repository.LogDailyRollupRepository;
+import org.example.expert.domain.manager.repository.LogRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LogQueryService {
+
+    private static final int MAX_SIZE = 100;
+
+    private final LogRepository logRepository;
+    private final LogDailyRollupRepository logDailyRollupRepository;
+
+    public CursorResponse<LogResponse> getLogs(LocalDate from, LocalDate to, String action, String cursor, int size) {
+        validateRange(from, to);
+        if (size < 1 || size > MAX_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+
+        List<LogResponse> logs = logRepository.findByLogDateBetweenAfter(from, to, action, KeysetCursor.decode(cursor), size + 1)
+                .stream()
+                .map(LogResponse::new)
+                .toList();
+
+        return CursorResponse.of(logs, size, log -> new KeysetCursor(log.getCreatedAt(), log.getId()));
+    }
+
+    public List<LogDailyRollupResponse> getDailyRollups(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        return logDailyRollupRepository.findAllByLogDateBetweenOrderByLogDateDesc(from, to).stream()
+                .map(LogDailyRollupResponse::new)
+                .toList();
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("from은 to보다 늦을 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.expert.domain.manager.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.manager.entity.Log;
+import org.example.expert.domain.manager.entity.LogDailyRollup;
+import org.example.expert.domain.manager.repository.LogDailyRollupRepository;
+import org.example.expert.domain.manager.repository.LogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 담당자 등록 로그 보관 기간 정리
+ * 보관 기간이 지난 로그를 날짜(파티션) 단위로, 날짜 안에서는 id 순으로 delete-chunk-size개씩 별도 트랜잭션으로 삭제한다.
+ * 일별 집계(LogDailyRollup)는 삭제하지 않는다.
+ * 시작 시 log_date가 없는 예전 로그를 created_at 날짜로 채우고, 그 날짜들의 일별 집계를 로그 기준으로 다시 계산한다.
+ */
+@Slf4j
+@Service
+public class LogRetentionService {
+
+    private final LogRepository logRepository;
+    private final LogDailyRollupRepository logDailyRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int chunkSize;
+
+    public LogRetentionService(LogRepository logRepository,
+                               LogDailyRollupRepository logDailyRollupRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${log.retention.days:90}") int retentionDays,
+                               @Value("${log.retention.delete-chunk-size:5000}") int chunkSize) {
+        this.logRepository = logRepository;
+        this.logDailyRollupRepository = logDailyRollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillLogDates() {
+        Long minId = logRepository.findMinIdWithoutLogDate();
+        Long maxId = logRepository.findMaxIdWithoutLogDate();
+        if (minId == null) {
+            return;
+        }
+        List<LocalDate> logDates = logRepository.findCreatedDatesWithoutLogDate();
+
+        long updated = 0;
+        for (long start = minId; start <= maxId; start += chunkSize) {
+            long fromId = start;
+            long toId = Math.min(maxId, start + chunkSize - 1);
+            updated += transactionTemplate.execute(status -> logRepository.backfillLogDate(fromId, toId));
+        }
+        log.info("로그 발생일 채우기 완료 - 갱신 건수: {}", updated);
+
+        // 채운 로그는 집계에 들어간 적이 없으므로 날짜별로 다시 계산한다.
+        for (LocalDate logDate : logDates) {
+            createRollupIfAbsent(logDate);
+            transactionTemplate.executeWithoutResult(status ->
+                    logDailyRollupRepository.recount(logDate, Log.ACTION_SUCCESS));
+        }
+        log.info("로그 일별 집계 재계산 완료 - 날짜 수: {}", logDates.size());
+    }
+
+    // LogService가 같은 날짜 행을 먼저 만들었으면 PK 충돌이 나도 그대로 진행한다.
+    private void createRollupIfAbsent(LocalDate logDate) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!logDailyRollupRepository.existsById(logDate)) {
+                    logDailyRollupRepository.saveAndFlush(new LogDailyRollup(logDate, 0, 0));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("다른 곳에서 먼저 집계 행을 생성함 - 날짜: {}", logDate);
+        }
+    }
+
+    @Scheduled(cron = "${log.retention.cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+        List<LocalDate> expiredDates = logRepository.findLogDatesBefore(cutoff);
+
+        for (LocalDate logDate : expiredDates) {
+            long deleted = 0;
+            List<Long> ids;
+            while (!(ids = logRepository.findIdsByLogDate(logDate, chunkSize)).isEmpty()) {
+                List<Long> chunk = ids;
+                deleted += transactionTemplate.execute(status -> logRepository.deleteByIdIn(chunk));
+            }
+            log.info("만료된 로그 삭제 - 날짜: {}, 삭제 건수: {}", logDate, deleted);
+        }
+    }
+}
@@ -1,23 +1,215 @@
 package org.example.expert.domain.manager.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.manager.entity.Log;
+import org.example.expert.domain.manager.entity.LogDailyRollup;
+import org.example.expert.domain.manager.enums.LogOverflowPolicy;
+import org.example.expert.domain.manager.repository.LogDailyRollupRepository;
 import org.example.expert.domain.manager.repository.LogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * 담당자 로깅 서비스
+ *
+ * <p>saveLog는 로그를 제한된 크기의 lock-free 대기열에 넣기만 하고 바로 반환한다.
+ * 백그라운드 writer가 flush-interval-millis마다, 또는 batch-size개가 쌓이면 바로 꺼내서 batch insert한다.
+ * 호출한 쪽의 트랜잭션과 별개로 커넥션을 하나 더 빌리지 않으므로 커넥션 풀 수요가 두 배가 되지 않는다.
+ * 대기열이 가득 차면 overflow-policy에 따라 처리하고, 종료 시 남은 로그를 모두 저장한다.
+ * 일별 성공/실패 집계(LogDailyRollup)는 로그 insert와 같은 트랜잭션에서 증분으로 갱신한다.
+ * 집계 행은 그 전에 별도 트랜잭션으로 만들어 두므로, 여러 인스턴스가 같은 날짜 행을 동시에 만들다 충돌해도 로그 batch는 실패하지 않는다.
+ * batch가 실패하면 한 건씩 다시 저장해서 문제가 있는 로그만 버린다.
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class LogService {
 
     private final LogRepository logRepository;
+    private final LogDailyRollupRepository logDailyRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final LogOverflowPolicy overflowPolicy;
+
+    private final Queue<Log> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Counter dropped;
+    private final Counter failed;
+    // 집계 행이 있는 것으로 확인된 날짜 (집계 행은 삭제하지 않으므로 하루에 하나씩만 늘어난다)
+    private final Set<LocalDate> rollupDates = new HashSet<>();
+    private volatile boolean running;
+    private Thread writer;
+
+    public LogService(LogRepository logRepository,
+                      LogDailyRollupRepository logDailyRollupRepository,
+                      PlatformTransactionManager transactionManager,
+                      MeterRegistry meterRegistry,
+                      @Value("${log.writer.capacity:10000}") int capacity,
+                      @Value("${log.writer.batch-size:500}") int batchSize,
+                      @Value("${log.writer.flush-interval-millis:200}") long flushIntervalMillis,
+                      @Value("${log.writer.overflow-policy:DROP_OLDEST}") LogOverflowPolicy overflowPolicy) {
+        this.logRepository = logRepository;
+        this.logDailyRollupRepository = logDailyRollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.overflowPolicy = overflowPolicy;
+
+        this.dropped = meterRegistry.counter("log.writer.dropped");
+        this.failed = meterRegistry.counter("log.writer.failed");
+        Gauge.builder("log.writer.queue.size", size, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::runWriter, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        // writer가 끝난 뒤 남은 로그 저장
+        flush();
+    }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void saveLog(String action, String message) {
-        logRepository.save(new Log(action, message));
+        Log logEntry = new Log(action, message);
+
+        if (size.incrementAndGet() > capacity) {
+            switch (overflowPolicy) {
+                case DROP_NEWEST -> {
+                    size.decrementAndGet();
+                    dropped.increment();
+                    return;
+                }
+                case DROP_OLDEST -> {
+                    if (queue.poll() != null) {
+                        size.decrementAndGet();
+                        dropped.increment();
+                    }
+                }
+            }
+        }
+
+        queue.offer(logEntry);
+        if (size.get() >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void runWriter() {
+        while (running) {
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.error("로그 저장 실패", e);
+            }
+        }
+    }
+
+    /**
+     * 대기열이 빌 때까지 batchSize개씩 저장
+     */
+    private void flush() {
+        List<Log> batch = new ArrayList<>(batchSize);
+        while (true) {
+            Log logEntry;
+            while (batch.size() < batchSize && (logEntry = queue.poll()) != null) {
+                size.decrementAndGet();
+                batch.add(logEntry);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    // 종료 시 writer가 join timeout 안에 끝나지 않았을 때 stop의 flush와 겹치지 않도록 직렬화한다.
+    private synchronized void write(List<Log> logs) {
+        try {
+            insert(logs);
+        } catch (RuntimeException e) {
+            if (logs.size() == 1) {
+                failed.increment();
+                log.error("로그 저장 실패", e);
+                return;
+            }
+            log.warn("로그 {}건 batch 저장 실패, 한 건씩 다시 저장", logs.size(), e);
+            for (Log logEntry : logs) {
+                // 실패한 persist에서 id가 할당됐으므로 새 엔티티로 다시 저장한다.
+                write(List.of(new Log(logEntry.getAction(), logEntry.getMessage(), logEntry.getCreatedAt())));
+            }
+        }
+    }
+
+    private void insert(List<Log> logs) {
+        Map<LocalDate, long[]> counts = new TreeMap<>();
+        for (Log logEntry : logs) {
+            long[] count = counts.computeIfAbsent(logEntry.getLogDate(), date -> new long[2]);
+            count[logEntry.isSuccess() ? 0 : 1]++;
+        }
+
+        counts.keySet().forEach(this::createRollupIfAbsent);
+        transactionTemplate.executeWithoutResult(status -> {
+            logRepository.saveAll(logs);
+            counts.forEach((logDate, count) -> {
+                if (logDailyRollupRepository.increase(logDate, count[0], count[1]) == 0) {
+                    logDailyRollupRepository.save(new LogDailyRollup(logDate, count[0], count[1]));
+                }
+            });
+        });
+    }
+
+    /**
+     * 날짜의 집계 행을 0건으로 미리 생성 (이미 있으면 무시)
+     * 다른 인스턴스가 먼저 만들어 PK 충돌이 나도 행은 있으므로 그대로 진행한다.
+     */
+    private void createRollupIfAbsent(LocalDate logDate) {
+        if (rollupDates.contains(logDate)) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!logDailyRollupRepository.existsById(logDate)) {
+                    logDailyRollupRepository.saveAndFlush(new LogDailyRollup(logDate, 0, 0));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("다른 인스턴스가 먼저 집계 행을 생성함 - 날짜: {}", logDate);
+        }
+        rollupDates.add(logDate);
     }
 }
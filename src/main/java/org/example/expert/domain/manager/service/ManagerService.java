@@ -4,7 +4,9 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.ManagerSaveFailureLogging;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBatchSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
@@ -14,12 +16,21 @@ import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -50,8 +61,22 @@ public class ManagerService {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
+        if (managerRepository.existsByUserIdAndTodoId(managerUser.getId(), todo.getId())) {
+            throw new InvalidRequestException("이미 등록된 담당자입니다.");
+        }
+
         Manager newManagerUser = new Manager(managerUser, todo);
-        Manager savedManagerUser = managerRepository.save(newManagerUser);
+        Manager savedManagerUser;
+        try {
+            // 동시에 같은 담당자를 등록하면 unique 제약으로 한쪽만 성공 (managerCount도 한 번만 증가)
+            savedManagerUser = managerRepository.saveAndFlush(newManagerUser);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateManager(e)) {
+                throw new InvalidRequestException("이미 등록된 담당자입니다.");
+            }
+            throw e;
+        }
+        todoRepository.updateManagerCount(todo.getId(), 1);
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -59,6 +84,70 @@ public class ManagerService {
         );
     }
 
+    /**
+     * 담당자 여러 명 한 번에 등록
+     * 유저 존재 확인과 기존 담당자 확인을 각각 IN 쿼리 한 번으로 처리하고, 새 담당자만 batch insert한다.
+     * 이미 담당자인 유저는 건너뛰고, 로그는 호출 한 번에 한 건만 남긴다.
+     * 중복 여부의 최종 판단은 managers(user_id, todo_id) unique 제약이다.
+     */
+    @ManagerSaveFailureLogging(action = "담당자 일괄 등록")
+    @Transactional
+    public ManagerBatchSaveResponse saveManagers(AuthUser authUser, long todoId, ManagerBatchSaveRequest managerBatchSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        Todo todo = todoRepository.findById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+            throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 유효하지 않거나, 일정을 만든 유저가 아닙니다.");
+        }
+
+        Set<Long> managerUserIds = new LinkedHashSet<>(managerBatchSaveRequest.getManagerUserIds());
+        if (managerUserIds.contains(user.getId())) {
+            throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+        }
+
+        Map<Long, User> managerUsers = userRepository.findAllById(managerUserIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        if (managerUsers.size() != managerUserIds.size()) {
+            List<Long> missingIds = managerUserIds.stream()
+                    .filter(id -> !managerUsers.containsKey(id))
+                    .toList();
+            throw new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다. " + missingIds);
+        }
+
+        Set<Long> existingIds = new HashSet<>(managerRepository.findUserIdsByTodoIdAndUserIdIn(todo.getId(), managerUserIds));
+        List<Manager> newManagers = managerUserIds.stream()
+                .filter(id -> !existingIds.contains(id))
+                .map(id -> new Manager(managerUsers.get(id), todo))
+                .toList();
+
+        List<Manager> savedManagers;
+        try {
+            // 조회 후 다른 요청이 같은 담당자를 먼저 등록했으면 unique 제약 위반으로 전체를 롤백한다. (managerCount 중복 증가 방지)
+            savedManagers = managerRepository.saveAllAndFlush(newManagers);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateManager(e)) {
+                throw new InvalidRequestException("다른 요청에서 이미 등록한 담당자가 있습니다. 다시 시도해주세요.");
+            }
+            throw e;
+        }
+        if (!savedManagers.isEmpty()) {
+            todoRepository.updateManagerCount(todo.getId(), savedManagers.size());
+        }
+
+        List<ManagerSaveResponse> managers = savedManagers.stream()
+                .map(manager -> new ManagerSaveResponse(
+                        manager.getId(),
+                        new UserResponse(manager.getUser().getId(), manager.getUser().getEmail())
+                ))
+                .toList();
+        List<Long> skippedUserIds = managerUserIds.stream()
+                .filter(existingIds::contains)
+                .toList();
+
+        return new ManagerBatchSaveResponse(managers, skippedUserIds);
+    }
+
     public List<ManagerResponse> getManagers(long todoId) {
         Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
@@ -95,5 +184,13 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        todoRepository.updateManagerCount(todo.getId(), -1);
+    }
+
+    // 담당자 unique 제약 위반인지 제약 이름으로 확인 (DB마다 스키마 이름이나 접미사가 붙으므로 포함 여부로 비교)
+    private static boolean isDuplicateManager(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException cause
+                && cause.getConstraintName() != null
+                && cause.getConstraintName().toLowerCase(Locale.ROOT).contains(Manager.UNIQUE_USER_TODO);
     }
 }
@@ -0,0 +1,94 @@
+package org.example.expert.domain.manager.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.service.TodoCountRepairService;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * managers(user_id, todo_id) unique 제약 보장
+ *
+ * <p>중복 담당자가 있는 기존 DB에서는 Hibernate(ddl-auto=update)가 제약 추가에 실패해도 로그만 남기고 시작한다.
+ * 담당자 등록은 이 제약으로 중복을 막으므로, 시작할 때 제약이 없으면 중복 행(가장 먼저 등록된 행만 남김)을 지우고 직접 추가한다.
+ * 그래도 제약을 만들 수 없으면 시작을 중단한다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class ManagerUniqueConstraintInitializer {
+
+    private static final Set<String> COLUMNS = Set.of("user_id", "todo_id");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TodoCountRepairService todoCountRepairService;
+
+    public ManagerUniqueConstraintInitializer(JdbcTemplate jdbcTemplate, TodoCountRepairService todoCountRepairService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.todoCountRepairService = todoCountRepairService;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (constraintExists()) {
+            return;
+        }
+
+        int deleted = jdbcTemplate.update("DELETE FROM managers WHERE id NOT IN (" +
+                "SELECT keep_id FROM (SELECT MIN(id) AS keep_id FROM managers GROUP BY user_id, todo_id) k)");
+        try {
+            jdbcTemplate.execute("ALTER TABLE managers ADD CONSTRAINT " + Manager.UNIQUE_USER_TODO
+                    + " UNIQUE (user_id, todo_id)");
+        } catch (DataAccessException e) {
+            // 다른 인스턴스가 먼저 추가했으면 그대로 진행
+            if (!constraintExists()) {
+                throw new IllegalStateException("managers unique 제약을 추가할 수 없습니다.", e);
+            }
+        }
+        log.warn("managers unique 제약 추가 - 삭제한 중복 담당자 수: {}", deleted);
+
+        if (deleted > 0) {
+            todoCountRepairService.repairAll();
+        }
+    }
+
+    private boolean constraintExists() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String catalog = connection.getCatalog();
+            String schema = connection.getSchema();
+            return hasUniqueIndex(metaData, catalog, schema, "managers")
+                    || hasUniqueIndex(metaData, catalog, schema, "MANAGERS");
+        }));
+    }
+
+    // 제약 이름은 DB마다 다르게 보이므로 (user_id, todo_id) 컬럼의 unique 인덱스가 있는지로 확인한다.
+    private static boolean hasUniqueIndex(DatabaseMetaData metaData, String catalog, String schema, String table)
+            throws SQLException {
+        Map<String, Set<String>> indexColumns = new HashMap<>();
+        try (ResultSet indexes = metaData.getIndexInfo(catalog, schema, table, true, false)) {
+            while (indexes.next()) {
+                String indexName = indexes.getString("INDEX_NAME");
+                String column = indexes.getString("COLUMN_NAME");
+                if (indexName != null && column != null) {
+                    indexColumns.computeIfAbsent(indexName, key -> new HashSet<>())
+                            .add(column.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return indexColumns.containsValue(COLUMNS);
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.expert.domain.todo.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.cache.OffHeapSlabCache;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 할 일 단건 조회 응답 캐시
+ * 직렬화된 JSON 바이트를 off-heap slab에 보관하고, 히트 시 응답 스트림에 바로 쓴다.
+ */
+@Slf4j
+@Component
+public class TodoResponseCache {
+
+    private final OffHeapSlabCache cache;
+    private final ObjectMapper objectMapper;
+    private final ThreadLocal<byte[]> buffers;
+    // todo id 구간(stripe)별 무효화 횟수, 조회 도중 무효화된 응답이 캐시에 들어가는 것을 막는다.
+    // 다른 할 일의 변경은 대부분 다른 stripe에 떨어지므로 진행 중인 조회의 저장을 막지 않는다.
+    private final AtomicLongArray invalidations;
+    private final Object[] locks;
+    private final int stripeMask;
+
+    public TodoResponseCache(ObjectMapper objectMapper,
+                             @Value("${todo.response-cache.capacity-mb:64}") int capacityMb,
+                             @Value("${todo.response-cache.chunk-bytes:512}") int chunkBytes,
+                             @Value("${todo.response-cache.max-entry-kb:64}") int maxEntryKb,
+                             @Value("${todo.response-cache.stripes:1024}") int stripes) {
+        int stripeCount = Integer.highestOneBit(Math.max(1, stripes - 1) << 1);
+        this.invalidations = new AtomicLongArray(stripeCount);
+        this.locks = new Object[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            locks[i] = new Object();
+        }
+        this.stripeMask = stripeCount - 1;
+        this.objectMapper = objectMapper;
+        this.cache = new OffHeapSlabCache(capacityMb * 1024 * 1024, chunkBytes, maxEntryKb * 1024);
+        this.buffers = ThreadLocal.withInitial(() -> new byte[4096]);
+    }
+
+    /**
+     * 캐시된 응답을 그대로 response에 쓴다.
+     *
+     * @return 캐시 히트 여부
+     */
+    public boolean writeTo(long todoId, HttpServletResponse response) throws IOException {
+        byte[] buffer = buffers.get();
+        int length = cache.copyTo(todoId, buffer);
+        if (length > buffer.length) {
+            buffer = new byte[Integer.highestOneBit(length - 1) << 1];
+            buffers.set(buffer);
+            length = cache.copyTo(todoId, buffer);
+        }
+        if (length < 0 || length > buffer.length) {
+            return false;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(length);
+        response.getOutputStream().write(buffer, 0, length);
+        return true;
+    }
+
+    /**
+     * 조회 시작 전에 받아 두고 put에 넘긴다.
+     */
+    public long stamp(long todoId) {
+        return invalidations.get(stripe(todoId));
+    }
+
+    /**
+     * 응답 저장, stamp 이후 무효화가 있었다면 저장하지 않는다.
+     */
+    public void put(TodoResponse todoResponse, long stamp) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(todoResponse);
+        } catch (JsonProcessingException e) {
+            log.warn("할 일 응답 직렬화 실패 todoId={}", todoResponse.getId(), e);
+            return;
+        }
+        int stripe = stripe(todoResponse.getId());
+        synchronized (locks[stripe]) {
+            if (invalidations.get(stripe) == stamp) {
+                cache.put(todoResponse.getId(), json, todoResponse.getUser().getId());
+            }
+        }
+    }
+
+    public void evict(long todoId) {
+        int stripe = stripe(todoId);
+        synchronized (locks[stripe]) {
+            invalidations.incrementAndGet(stripe);
+            cache.remove(todoId);
+        }
+    }
+
+    /**
+     * 작성자 정보가 바뀌면 해당 작성자의 할 일 응답을 모두 무효화
+     * 어떤 할 일이 해당 작성자 것인지 조회 시작 시점에는 알 수 없으므로 모든 stripe를 무효화한다. (유저 변경은 드물다)
+     */
+    public void evictByUser(long userId) {
+        for (int i = 0; i < locks.length; i++) {
+            synchronized (locks[i]) {
+                invalidations.incrementAndGet(i);
+            }
+        }
+        cache.removeIf(group -> group == userId);
+    }
+
+    private int stripe(long todoId) {
+        return Long.hashCode(todoId * 0x9E3779B97F4A7C15L) & stripeMask;
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.expert.domain.todo.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Todo, User 변경 시 할 일 응답 캐시 무효화
+ * 엔티티에 리스너를 붙이지 않고 캐시가 있을 때만 Hibernate 이벤트 리스너로 등록하므로, 캐시 없이 JPA만 띄우는 테스트에는 영향이 없다.
+ * flush 시점에 한 번, 커밋 후에 한 번 더 비워 커밋 전의 값이 다시 캐시되지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoResponseCacheEvictListener implements PostUpdateEventListener, PostDeleteEventListener {
+
+    private final TodoResponseCache todoResponseCache;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        onChange(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        onChange(event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void onChange(Object entity) {
+        Runnable evict;
+        if (entity instanceof Todo todo) {
+            evict = () -> todoResponseCache.evict(todo.getId());
+        } else if (entity instanceof User user) {
+            evict = () -> todoResponseCache.evictByUser(user.getId());
+        } else {
+            return;
+        }
+
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoImportJobResponse;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.todo.service.TodoImportService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoExportService todoExportService;
+    private final TodoImportService todoImportService;
+
+    /**
+     * 할 일 전체 내보내기 (NDJSON)
+     * 한 줄에 하나의 TodoResponse를 id 오름차순으로 응답한다.
+     * 중간에 끊기면 마지막으로 받은 id를 lastId로 넘겨서 이어받을 수 있다.
+     *
+     * @param lastId 마지막으로 받은 할 일 id
+     * @return NDJSON 스트림
+     */
+    @GetMapping("/admin/todos/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos(@RequestParam(required = false) Long lastId) {
+        StreamingResponseBody body = outputStream -> todoExportService.export(lastId, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * 할 일 CSV 가져오기 시작
+     * CSV 형식: 헤더 한 줄 + title,contents,email[,weather]
+     * 실패한 작업은 같은 파일과 jobId를 넘기면 마지막으로 커밋된 행 다음부터 이어서 가져온다.
+     *
+     * @param file CSV 파일
+     * @param jobId 이어서 진행할 작업 id
+     * @return 시작된 작업
+     */
+    @PostMapping(value = "/admin/todos/imports", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<TodoImportJobResponse> importTodos(
+            @RequestPart MultipartFile file,
+            @RequestParam(required = false) Long jobId
+    ) {
+        return ResponseEntity.accepted().body(todoImportService.start(file, jobId));
+    }
+
+    /**
+     * 가져오기 진행 상황 조회 (처리한 행 수, 초당 처리 행 수)
+     *
+     * @param jobId 작업 id
+     * @return 작업 상태
+     */
+    @GetMapping("/admin/todos/imports/{jobId}")
+    public ResponseEntity<TodoImportJobResponse> getImportJob(@PathVariable long jobId) {
+        return ResponseEntity.ok(todoImportService.getJob(jobId));
+    }
+}
@@ -1,23 +1,35 @@
 package org.example.expert.domain.todo.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.cache.TodoResponseCache;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSaveJobResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.service.TodoAsyncSaveService;
 import org.example.expert.domain.todo.service.TodoService;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoResponseCache todoResponseCache;
+    private final TodoAsyncSaveService todoAsyncSaveService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -28,35 +40,97 @@ public class TodoController {
     }
 
     /**
-     * 할 일 검색 (날씨, 수정일)
+     * 할 일 여러 개 저장 (최대 1000개)
+     *
+     * @return 저장된 할 일 목록 (요청 순서)
+     */
+    @PostMapping("/todos/batch")
+    public ResponseEntity<List<TodoSaveResponse>> saveTodos(
+            @AuthenticationPrincipal AuthUser authUser,
+            @Valid @RequestBody TodoBatchSaveRequest todoBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(todoService.saveTodos(authUser, todoBatchSaveRequest));
+    }
+
+    /**
+     * 할 일 비동기 저장
+     * 요청을 큐에 넣고 바로 202와 작업 id를 반환한다. 큐가 가득 차면 429.
+     *
+     * @return 등록된 작업
+     */
+    @PostMapping(value = "/todos", params = "async=true")
+    public ResponseEntity<TodoSaveJobResponse> saveTodoAsync(
+            @AuthenticationPrincipal AuthUser authUser,
+            @Valid @RequestBody TodoSaveRequest todoSaveRequest
+    ) {
+        return ResponseEntity.accepted().body(todoAsyncSaveService.enqueue(authUser, todoSaveRequest));
+    }
+
+    /**
+     * 비동기 저장 작업 상태 조회
+     *
+     * @param jobId 작업 id
+     * @return 작업 상태 (완료 시 저장된 할 일 id 포함)
+     */
+    @GetMapping("/todos/jobs/{jobId}")
+    public ResponseEntity<TodoSaveJobResponse> getSaveJob(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable String jobId
+    ) {
+        return ResponseEntity.ok(todoAsyncSaveService.getJob(authUser, jobId));
+    }
+
+    /**
+     * 할 일 검색 (제목, 날씨, 작성자 닉네임, 수정일, 생성일)
+     * 모든 검색 조건은 선택 사항이며 자유롭게 조합할 수 있다.
      *
      * @param page 페이지 번호
      * @param size 한 페이지에 데이터 수
+     * @param title 제목 검색
      * @param weather 날씨 검색
+     * @param nickname 작성자 닉네임 검색
      * @param startDate 수정일 검색 기간 시작일
      * @param endDate 수정일 검색 기간 종료일
+     * @param createdStartDate 생성일 검색 기간 시작일
+     * @param createdEndDate 생성일 검색 기간 종료일
+     * @param sort 정렬 기준 (modifiedAt, createdAt)
+     * @param total 전체 개수 계산 방식 (none, approx, exact)
      * @return 페이징된 할 일 목록
      */
     @GetMapping("/todos")
-    public ResponseEntity<Page<TodoResponse>> getTodos(
+    public ResponseEntity<Slice<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String title,
             @RequestParam(required = false) String weather,
+            @RequestParam(required = false) String nickname,
             @RequestParam(required = false) String startDate,
-            @RequestParam(required = false) String endDate
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String createdStartDate,
+            @RequestParam(required = false) String createdEndDate,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String total
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size, weather, startDate, endDate));
+        TodoSearchCondition condition = TodoSearchCondition.of(
+                title, weather, nickname, startDate, endDate, createdStartDate, createdEndDate, sort);
+        return ResponseEntity.ok(todoService.getTodos(page, size, condition, total));
     }
 
     /**
      * 할 일 id 조회
      *
      * @param todoId 할 일 id
-     * @return 검색된 할 일
+     * @return 검색된 할 일 (캐시 히트 시 응답 스트림에 직접 쓰고 null 반환)
      */
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, HttpServletResponse response) throws IOException {
+        if (todoResponseCache.writeTo(todoId, response)) {
+            return null;
+        }
+        long stamp = todoResponseCache.stamp(todoId);
+        TodoResponse todoResponse = todoService.getTodo(todoId);
+        todoResponseCache.put(todoResponse, stamp);
+        return ResponseEntity.ok(todoResponse);
     }
 
     /**
@@ -65,15 +139,17 @@ public class TodoController {
      * @param page 페이지 번호
      * @param size 한 페이지에 데이터 수
      * @param title 제목 검색
+     * @param total 전체 개수 계산 방식 (none, approx, exact)
      * @return 페이징된 할 일 목록
      */
     @GetMapping("/todos/search-title")
-    public ResponseEntity<Page<TodoSearchResponse>> searchTodoByTitle(
+    public ResponseEntity<Slice<TodoSearchResponse>> searchTodoByTitle(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam String title
+            @RequestParam String title,
+            @RequestParam(required = false) String total
     ) {
-        return ResponseEntity.ok(todoService.searchTodoByTitle(page, size, title));
+        return ResponseEntity.ok(todoService.searchTodoByTitle(page, size, title, total));
     }
 
     /**
@@ -83,16 +159,18 @@ public class TodoController {
      * @param size 한 페이지에 데이터 수
      * @param startDate 생성일 검색 기간 시작일
      * @param endDate 생성일 검색 기간 종료일
+     * @param total 전체 개수 계산 방식 (none, approx, exact)
      * @return 페이징된 할 일 목록
      */
     @GetMapping("/todos/search-date")
-    public ResponseEntity<Page<TodoSearchResponse>> searchTodoByDate(
+    public ResponseEntity<Slice<TodoSearchResponse>> searchTodoByDate(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam String startDate,
-            @RequestParam String endDate
+            @RequestParam String endDate,
+            @RequestParam(required = false) String total
     ) {
-        return ResponseEntity.ok(todoService.searchTodoByCreateAt(page, size, startDate, endDate));
+        return ResponseEntity.ok(todoService.searchTodoByCreateAt(page, size, startDate, endDate, total));
     }
 
     /**
@@ -100,14 +178,121 @@ public class TodoController {
      * @param page 페이지 번호
      * @param size 한 페이지에 데이터 수
      * @param nickname 닉네임 검색
+     * @param total 전체 개수 계산 방식 (none, approx, exact)
      * @return 페이징된 할 일 목록
      */
     @GetMapping("/todos/search-nickname")
-    public ResponseEntity<Page<TodoSearchResponse>> searchTodoByNickname(
+    public ResponseEntity<Slice<TodoSearchResponse>> searchTodoByNickname(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam String nickname,
+            @RequestParam(required = false) String total
+    ) {
+        return ResponseEntity.ok(todoService.searchTodoByNickname(page, size, nickname, total));
+    }
+
+    /**
+     * 할 일 커서 페이징 검색 (제목, 날씨, 작성자 닉네임, 수정일, 생성일)
+     * cursor 파라미터가 있으면 커서 모드로 동작하고, 첫 페이지는 빈 cursor(?cursor=)로 요청한다.
+     *
+     * @param cursor 이전 페이지의 nextCursor
+     * @param size 한 페이지에 데이터 수
+     * @param title 제목 검색
+     * @param weather 날씨 검색
+     * @param nickname 작성자 닉네임 검색
+     * @param startDate 수정일 검색 기간 시작일
+     * @param endDate 수정일 검색 기간 종료일
+     * @param createdStartDate 생성일 검색 기간 시작일
+     * @param createdEndDate 생성일 검색 기간 종료일
+     * @param sort 정렬 기준 (modifiedAt, createdAt)
+     * @return 커서 페이징된 할 일 목록
+     */
+    @GetMapping(value = "/todos", params = "cursor")
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) String nickname,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String createdStartDate,
+            @RequestParam(required = false) String createdEndDate,
+            @RequestParam(required = false) String sort
+    ) {
+        TodoSearchCondition condition = TodoSearchCondition.of(
+                title, weather, nickname, startDate, endDate, createdStartDate, createdEndDate, sort);
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size, condition));
+    }
+
+    /**
+     * 할 일 제목으로 커서 페이징 조회
+     *
+     * @param cursor 이전 페이지의 nextCursor
+     * @param size 한 페이지에 데이터 수
+     * @param title 제목 검색
+     * @return 커서 페이징된 할 일 목록
+     */
+    @GetMapping(value = "/todos/search-title", params = "cursor")
+    public ResponseEntity<CursorResponse<TodoSearchResponse>> searchTodoByTitleCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam String title
+    ) {
+        return ResponseEntity.ok(todoService.searchTodoByTitle(cursor, size, title));
+    }
+
+    /**
+     * 할 일 생성일 기간 커서 페이징 조회
+     *
+     * @param cursor 이전 페이지의 nextCursor
+     * @param size 한 페이지에 데이터 수
+     * @param startDate 생성일 검색 기간 시작일
+     * @param endDate 생성일 검색 기간 종료일
+     * @return 커서 페이징된 할 일 목록
+     */
+    @GetMapping(value = "/todos/search-date", params = "cursor")
+    public ResponseEntity<CursorResponse<TodoSearchResponse>> searchTodoByDateCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam String startDate,
+            @RequestParam String endDate
+    ) {
+        return ResponseEntity.ok(todoService.searchTodoByCreateAt(cursor, size, startDate, endDate));
+    }
+
+    /**
+     * 할 일 작성자 닉네임 커서 페이징 검색
+     *
+     * @param cursor 이전 페이지의 nextCursor
+     * @param size 한 페이지에 데이터 수
+     * @param nickname 닉네임 검색
+     * @return 커서 페이징된 할 일 목록
+     */
+    @GetMapping(value = "/todos/search-nickname", params = "cursor")
+    public ResponseEntity<CursorResponse<TodoSearchResponse>> searchTodoByNicknameCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
             @RequestParam String nickname
     ) {
-        return ResponseEntity.ok(todoService.searchTodoByNickname(page, size, nickname));
+        return ResponseEntity.ok(todoService.searchTodoByNickname(cursor, size, nickname));
+    }
+
+    /**
+     * 내가 작성했거나 담당자로 등록된 할 일 커서 페이징 조회
+     *
+     * @param role 조회 기준 (owner: 작성한 할 일, manager: 담당한 할 일)
+     * @param cursor 이전 페이지의 nextCursor
+     * @param size 한 페이지에 데이터 수
+     * @return 커서 페이징된 할 일 목록
+     */
+    @GetMapping("/users/me/todos")
+    public ResponseEntity<CursorResponse<TodoSearchResponse>> getMyTodos(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(defaultValue = "owner") String role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getMyTodos(authUser, role, cursor, size));
     }
 }
@@ -0,0 +1,67 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.Getter;
+import org.example.expert.domain.todo.enums.TodoSortKey;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * todo 목록 검색 조건
+ * 모든 조건은 선택 사항이며, null인 조건은 검색에 사용하지 않는다.
+ */
+@Getter
+public class TodoSearchCondition {
+
+    private final String title;
+    private final String weather;
+    private final String nickname;
+    private final LocalDateTime modifiedFrom;
+    private final LocalDateTime modifiedTo;
+    private final LocalDateTime createdFrom;
+    private final LocalDateTime createdTo;
+    private final TodoSortKey sortKey;
+
+    public TodoSearchCondition(String title, String weather, String nickname,
+                               LocalDateTime modifiedFrom, LocalDateTime modifiedTo,
+                               LocalDateTime createdFrom, LocalDateTime createdTo,
+                               TodoSortKey sortKey) {
+        this.title = title;
+        this.weather = weather;
+        this.nickname = nickname;
+        this.modifiedFrom = modifiedFrom;
+        this.modifiedTo = modifiedTo;
+        this.createdFrom = createdFrom;
+        this.createdTo = createdTo;
+        this.sortKey = sortKey;
+    }
+
+    /**
+     * 요청 파라미터로 검색 조건 생성
+     * 기간 조건은 yyyy-MM-dd 형식이며, 시작일은 00:00:00, 종료일은 23:59:59로 변환한다.
+     */
+    public static TodoSearchCondition of(String title, String weather, String nickname,
+                                         String startDate, String endDate,
+                                         String createdStartDate, String createdEndDate,
+                                         String sort) {
+        return new TodoSearchCondition(
+                title,
+                weather,
+                nickname,
+                startOfDay(startDate),
+                endOfDay(endDate),
+                startOfDay(createdStartDate),
+                endOfDay(createdEndDate),
+                TodoSortKey.of(sort)
+        );
+    }
+
+    private static LocalDateTime startOfDay(String date) {
+        return date == null ? null : LocalDate.parse(date, DateTimeFormatter.ISO_LOCAL_DATE).atStartOfDay();
+    }
+
+    private static LocalDateTime endOfDay(String date) {
+        return date == null ? null : LocalDate.parse(date, DateTimeFormatter.ISO_LOCAL_DATE).atTime(23, 59, 59);
+    }
+}
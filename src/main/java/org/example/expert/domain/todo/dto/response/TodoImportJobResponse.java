@@ -0,0 +1,39 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.todo.entity.TodoImportJob;
+import org.example.expert.domain.todo.enums.TodoImportStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoImportJobResponse {
+
+    private final Long id;
+    private final String fileName;
+    private final TodoImportStatus status;
+    private final long committedRows;
+    private final long insertedRows;
+    private final long skippedRows;
+    private final double rowsPerSecond;
+    private final String errorMessage;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+
+    public TodoImportJobResponse(TodoImportJob job) {
+        this.id = job.getId();
+        this.fileName = job.getFileName();
+        this.status = job.getStatus();
+        this.committedRows = job.getCommittedRows();
+        this.insertedRows = job.getInsertedRows();
+        this.skippedRows = job.getSkippedRows();
+        this.errorMessage = job.getErrorMessage();
+        this.startedAt = job.getStartedAt();
+        this.finishedAt = job.getFinishedAt();
+
+        LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+        long elapsedMillis = Math.max(1, Duration.between(job.getStartedAt(), end).toMillis());
+        this.rowsPerSecond = (job.getCommittedRows() - job.getResumedFromRow()) * 1000.0 / elapsedMillis;
+    }
+}
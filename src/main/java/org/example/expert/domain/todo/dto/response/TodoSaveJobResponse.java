@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.todo.enums.TodoSaveJobStatus;
+
+@Getter
+public class TodoSaveJobResponse {
+
+    private final String jobId;
+    private final TodoSaveJobStatus status;
+    private final Long todoId;
+    private final String message;
+
+    public TodoSaveJobResponse(String jobId, TodoSaveJobStatus status, Long todoId, String message) {
+        this.jobId = jobId;
+        this.status = status;
+        this.todoId = todoId;
+        this.message = message;
+    }
+}
@@ -2,6 +2,8 @@ package org.example.expert.domain.todo.dto.response;
 
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 public class TodoSearchResponse {
 
@@ -9,11 +11,16 @@ public class TodoSearchResponse {
     private final String title;
     private final int managerCount;
     private final int commentCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
 
-    public TodoSearchResponse(Long id, String title, int managerCount, int commentCount) {
+    public TodoSearchResponse(Long id, String title, int managerCount, int commentCount,
+                              LocalDateTime createdAt, LocalDateTime modifiedAt) {
         this.id = id;
         this.title = title;
         this.managerCount = managerCount;
         this.commentCount = commentCount;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
     }
 }
@@ -0,0 +1,101 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.todo.enums.TodoImportStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * CSV 가져오기 작업
+ * committedRows는 batch insert와 같은 트랜잭션에서 갱신되므로, 실패 후 이 행 이후부터 다시 가져오면 된다.
+ * 이어서 가져올 때 같은 파일인지 확인하도록 처음 업로드한 파일의 크기와 SHA-256을 저장한다.
+ * 실행할 때마다 runToken을 새로 발급하고(version으로 동시 발급 방지), batch 트랜잭션은 자기 runToken일 때만 커밋한다.
+ * 그래서 여러 서버가 같은 작업을 이어서 실행해도 한 곳만 행을 넣는다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_import_jobs")
+public class TodoImportJob extends Timestamped {
+
+    private static final int ERROR_MESSAGE_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_import_jobs_seq")
+    @SequenceGenerator(name = "todo_import_jobs_seq", sequenceName = "todo_import_jobs_seq", allocationSize = 1)
+    private Long id;
+    @Version
+    private long version;
+    private String runToken;
+    private String fileName;
+    private long fileSize;
+    @Column(length = 64)
+    private String fileSha256;
+    @Enumerated(EnumType.STRING)
+    private TodoImportStatus status;
+
+    // 처리 완료된 데이터 행 수 (헤더 제외, 건너뛴 행 포함)
+    private long committedRows;
+    private long insertedRows;
+    private long skippedRows;
+    // 이번 실행을 시작한 행 (처리 속도 계산용)
+    private long resumedFromRow;
+    @Column(length = ERROR_MESSAGE_LENGTH)
+    private String errorMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public TodoImportJob(String fileName, long fileSize, String fileSha256) {
+        this.fileName = fileName;
+        this.fileSize = fileSize;
+        this.fileSha256 = fileSha256;
+        start();
+    }
+
+    public boolean isSameFile(long fileSize, String fileSha256) {
+        return this.fileSize == fileSize && fileSha256.equals(this.fileSha256);
+    }
+
+    public void start() {
+        this.runToken = UUID.randomUUID().toString();
+        this.status = TodoImportStatus.RUNNING;
+        this.resumedFromRow = committedRows;
+        this.errorMessage = null;
+        this.startedAt = LocalDateTime.now();
+        this.finishedAt = null;
+    }
+
+    public boolean isRunBy(String runToken) {
+        return status == TodoImportStatus.RUNNING && runToken.equals(this.runToken);
+    }
+
+    /**
+     * 실행 중인데 staleBefore 이후로 진행(batch 커밋)이 없으면 실행하던 서버가 멈춘 것으로 본다.
+     */
+    public boolean isStalled(LocalDateTime staleBefore) {
+        return status == TodoImportStatus.RUNNING && (getModifiedAt() == null || getModifiedAt().isBefore(staleBefore));
+    }
+
+    public void commitBatch(int inserted, int skipped) {
+        this.committedRows += inserted + skipped;
+        this.insertedRows += inserted;
+        this.skippedRows += skipped;
+    }
+
+    public void complete() {
+        this.status = TodoImportStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.status = TodoImportStatus.FAILED;
+        this.errorMessage = errorMessage != null && errorMessage.length() > ERROR_MESSAGE_LENGTH
+                ? errorMessage.substring(0, ERROR_MESSAGE_LENGTH)
+                : errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+
+/**
+ * 내 할 일 목록 조회 기준 (작성한 할 일, 담당자로 등록된 할 일)
+ */
+public enum TodoMemberRole {
+    OWNER, MANAGER;
+
+    public static TodoMemberRole of(String role) {
+        if (role == null) {
+            return OWNER;
+        }
+        return Arrays.stream(TodoMemberRole.values())
+                .filter(r -> r.name().equalsIgnoreCase(role))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 조회 기준입니다. (owner, manager)"));
+    }
+}
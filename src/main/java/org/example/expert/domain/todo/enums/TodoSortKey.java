@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+
+/**
+ * todo 목록 정렬 기준 (항상 내림차순, 같은 값이면 id 내림차순)
+ */
+public enum TodoSortKey {
+    MODIFIED_AT, CREATED_AT;
+
+    public static TodoSortKey of(String sort) {
+        if (sort == null) {
+            return MODIFIED_AT;
+        }
+        return Arrays.stream(TodoSortKey.values())
+                .filter(s -> s.name().replace("_", "").equalsIgnoreCase(sort.replace("_", "")))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 정렬 기준입니다. (modifiedAt, createdAt)"));
+    }
+}
@@ -1,16 +1,29 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.enums.TotalMode;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface QTodoRepository {
     Optional<Todo> findByIdWithUser(Long todoId);
-    Page<TodoSearchResponse> findByTitleContains(String title, Pageable pageable);
-    Page<TodoSearchResponse> findByCreatedAt(LocalDateTime start, LocalDateTime end, Pageable pageable);
-    Page<TodoSearchResponse> findByNicknameContains(String nickname, Pageable pageable);
+    Slice<TodoSearchResponse> findByTitleContains(String title, Pageable pageable, TotalMode totalMode);
+    Slice<TodoSearchResponse> findByCreatedAt(LocalDateTime start, LocalDateTime end, Pageable pageable, TotalMode totalMode);
+    Slice<TodoSearchResponse> findByNicknameContains(String nickname, Pageable pageable, TotalMode totalMode);
+
+    Slice<TodoResponse> search(TodoSearchCondition condition, Pageable pageable, TotalMode totalMode);
+    List<TodoResponse> searchByCursor(TodoSearchCondition condition, KeysetCursor cursor, int limit);
+    List<TodoSearchResponse> findByTitleContainsAfter(String title, KeysetCursor cursor, int limit);
+    List<TodoSearchResponse> findByCreatedAtAfter(LocalDateTime start, LocalDateTime end, KeysetCursor cursor, int limit);
+    List<TodoSearchResponse> findByNicknameContainsAfter(String nickname, KeysetCursor cursor, int limit);
+    List<TodoSearchResponse> findByOwnerAfter(Long userId, KeysetCursor cursor, int limit);
+    List<TodoSearchResponse> findByManagerAfter(Long userId, KeysetCursor cursor, int limit);
 }
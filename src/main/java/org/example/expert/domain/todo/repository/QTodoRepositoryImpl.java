@@ -1,30 +1,51 @@
 package org.example.expert.domain.todo.repository;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.example.expert.domain.comment.entity.QComment;
-import org.example.expert.domain.manager.entity.QManager;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.enums.TotalMode;
+import org.example.expert.domain.common.index.NgramIndex;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
-import org.example.expert.domain.todo.entity.QTodo;
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
+import org.example.expert.domain.todo.enums.TodoSortKey;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.repository.UserNicknameIndex;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
 
+import static org.example.expert.domain.manager.entity.QManager.manager;
 import static org.example.expert.domain.todo.entity.QTodo.todo;
 import static org.example.expert.domain.user.entity.QUser.user;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 @Repository
 @RequiredArgsConstructor
 public class QTodoRepositoryImpl implements QTodoRepository{
 
+    private static final int MAX_INDEXED_IDS = 1000;
+
     private final JPAQueryFactory queryFactory;
+    private final TodoTitleIndex todoTitleIndex;
+    private final UserNicknameIndex userNicknameIndex;
+    private final TodoCountCache todoCountCache;
 
     /**
      * 특정 id를 가진 todo를 user와 같이 조회
@@ -51,39 +72,36 @@ public class QTodoRepositoryImpl implements QTodoRepository{
     /**
      * 특정 제목이 포함된 할 일 검색
      * 각 todo의 매니저 수, 댓글 수 포함
+     * 제목 색인이 준비되어 있으면 색인으로 찾은 id의 해당 페이지만 조회한다. (id 내림차순)
      *
      * @param title 검색할 todo 제목
      * @param pageable 페이징 정보
+     * @param totalMode 전체 개수 계산 방식
      * @return 페이징 된 TodoSearchResponse 목록
      */
     @Override
-    public Page<TodoSearchResponse> findByTitleContains(String title, Pageable pageable) {
-        QTodo todo = QTodo.todo;
-        QManager manager = QManager.manager;
-        QComment comment = QComment.comment;
-
-        List<TodoSearchResponse> content = queryFactory
-                .select(Projections.constructor(TodoSearchResponse.class,
-                        todo.id,
-                        todo.title,
-                        manager.id.countDistinct().intValue(),
-                        comment.id.countDistinct().intValue()
-                ))
-                .from(todo)
-                .leftJoin(todo.managers, manager)
-                .leftJoin(todo.comments, comment)
-                .where(todo.title.contains(title))
-                .groupBy(todo.id, todo.title)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+    public Slice<TodoSearchResponse> findByTitleContains(String title, Pageable pageable, TotalMode totalMode) {
+        long[] ids = todoTitleIndex.search(title);
+        if (ids != null) {
+            // 색인 검색 결과로 전체 개수를 이미 알고 있으므로 count 쿼리가 필요 없다.
+            int from = (int) Math.min(pageable.getOffset(), ids.length);
+            int to = (int) Math.min(from + (long) pageable.getPageSize(), ids.length);
+            List<TodoSearchResponse> content = findSearchResponsesByIds(Arrays.copyOfRange(ids, from, to));
 
-        Long count = queryFactory.select(todo.count())
-                .from(todo)
-                .where(todo.title.contains(title))
-                .fetchOne();
+            if (totalMode == TotalMode.NONE) {
+                return new SliceImpl<>(content, pageable, to < ids.length);
+            }
+            return new PageImpl<>(content, pageable, ids.length);
+        }
 
-        return new PageImpl<>(content, pageable, count == null ? 0 : count);
+        BooleanExpression condition = todo.title.contains(title);
+        return toSlice(
+                queryFactory.select(searchResponse()).from(todo).where(condition),
+                pageable,
+                totalMode,
+                "title:" + NgramIndex.normalize(title),
+                () -> count(condition)
+        );
     }
 
     /**
@@ -93,39 +111,21 @@ public class QTodoRepositoryImpl implements QTodoRepository{
      * @param start 생성일 기간 시작일
      * @param end 생성일 기간 종료일
      * @param pageable 페이징 정보
+     * @param totalMode 전체 개수 계산 방식
      * @return 페이징 된 TodoSearchResponse 목록
      */
     @Override
-    public Page<TodoSearchResponse> findByCreatedAt(LocalDateTime start, LocalDateTime end, Pageable pageable) {
-        QTodo todo = QTodo.todo;
-        QManager manager = QManager.manager;
-        QComment comment = QComment.comment;
-
-        List<TodoSearchResponse> content = queryFactory
-                .select(Projections.constructor(TodoSearchResponse.class,
-                        todo.id,
-                        todo.title,
-                        manager.id.countDistinct().intValue(),
-                        comment.id.countDistinct().intValue()
-                ))
-                .from(todo)
-                .leftJoin(todo.managers, manager)
-                .leftJoin(todo.comments, comment)
-                .where(todo.createdAt.goe(start)
-                        .and(todo.createdAt.loe(end)))
-                .groupBy(todo.id)
-                .orderBy(todo.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+    public Slice<TodoSearchResponse> findByCreatedAt(LocalDateTime start, LocalDateTime end, Pageable pageable, TotalMode totalMode) {
+        BooleanExpression condition = todo.createdAt.goe(start)
+                .and(todo.createdAt.loe(end));
 
-        Long count = queryFactory.select(todo.countDistinct())
-                .from(todo)
-                .where(todo.createdAt.goe(start)
-                        .and(todo.createdAt.loe(end)))
-                .fetchOne();
-
-        return new PageImpl<>(content, pageable, count == null ? 0 : count);
+        return toSlice(
+                queryFactory.select(searchResponse()).from(todo).where(condition).orderBy(todo.createdAt.desc()),
+                pageable,
+                totalMode,
+                "createdAt:" + start + "~" + end,
+                () -> count(condition)
+        );
     }
 
     /**
@@ -134,36 +134,334 @@ public class QTodoRepositoryImpl implements QTodoRepository{
      *
      * @param nickname 검색할 닉네임
      * @param pageable 페이징 정보
+     * @param totalMode 전체 개수 계산 방식
      * @return 페이징 된 TodoSearchResponse 목록
      */
     @Override
-    public Page<TodoSearchResponse> findByNicknameContains(String nickname, Pageable pageable) {
-        QTodo todo = QTodo.todo;
-        QManager manager = QManager.manager;
-        QComment comment = QComment.comment;
-
-        List<TodoSearchResponse> content = queryFactory
-                .select(Projections.constructor(TodoSearchResponse.class,
-                        todo.id,
-                        todo.title,
-                        manager.id.countDistinct().intValue(),
-                        comment.id.countDistinct().intValue()
-                ))
+    public Slice<TodoSearchResponse> findByNicknameContains(String nickname, Pageable pageable, TotalMode totalMode) {
+        BooleanExpression condition = nicknameContains(nickname);
+
+        return toSlice(
+                queryFactory.select(searchResponse()).from(todo).where(condition),
+                pageable,
+                totalMode,
+                "nickname:" + NgramIndex.normalize(nickname),
+                () -> count(condition)
+        );
+    }
+
+    /**
+     * 조건 조합 todo 목록 검색
+     * 제목, 날씨, 작성자 닉네임, 수정일/생성일 기간 조건을 자유롭게 조합할 수 있으며 null인 조건은 무시한다.
+     * 정렬은 (정렬 기준 시각, id) 내림차순이고, todos의 (modified_at, id), (created_at, id),
+     * (weather, modified_at) 인덱스로 조회된다.
+     * 응답에 필요한 컬럼만 users와 한 번 조인해서 TodoResponse로 바로 조회하므로 N+1이 발생하지 않는다.
+     *
+     * @param condition 검색 조건
+     * @param pageable 페이징 정보
+     * @param totalMode 전체 개수 계산 방식
+     * @return 페이징 된 TodoResponse 목록
+     */
+    @Override
+    public Slice<TodoResponse> search(TodoSearchCondition condition, Pageable pageable, TotalMode totalMode) {
+        Predicate predicate = searchPredicate(condition);
+        DateTimePath<LocalDateTime> sortPath = sortPath(condition.getSortKey());
+
+        return toSlice(
+                queryFactory.select(todoResponse())
+                        .from(todo)
+                        .join(todo.user, user)
+                        .where(predicate)
+                        .orderBy(sortPath.desc(), todo.id.desc()),
+                pageable,
+                totalMode,
+                countKey(condition),
+                () -> count(predicate)
+        );
+    }
+
+    /**
+     * 조건 조합 todo 목록 커서 페이징 검색
+     * 커서 이후의 todo만 조회하므로 페이지 깊이와 무관하게 일정한 비용이 든다.
+     *
+     * @param condition 검색 조건
+     * @param cursor 마지막으로 조회한 (정렬 기준 시각, id), 첫 페이지이면 null
+     * @param limit 조회할 최대 개수
+     * @return TodoResponse 목록
+     */
+    @Override
+    public List<TodoResponse> searchByCursor(TodoSearchCondition condition, KeysetCursor cursor, int limit) {
+        DateTimePath<LocalDateTime> sortPath = sortPath(condition.getSortKey());
+
+        return queryFactory.select(todoResponse())
+                .from(todo)
+                .join(todo.user, user)
+                .where(searchPredicate(condition), after(sortPath, cursor))
+                .orderBy(sortPath.desc(), todo.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 특정 제목이 포함된 할 일 커서 페이징 검색
+     * (생성일, id) 내림차순
+     * 제목 색인 결과가 적으면 todos.id IN (...) 조건으로, 아니면 제목 LIKE 조건으로 조회하며 어느 쪽이든 정렬과 커서 조건은 같다.
+     *
+     * @param title 검색할 todo 제목
+     * @param cursor 마지막으로 조회한 (생성일, id), 첫 페이지이면 null
+     * @param limit 조회할 최대 개수
+     * @return TodoSearchResponse 목록
+     */
+    @Override
+    public List<TodoSearchResponse> findByTitleContainsAfter(String title, KeysetCursor cursor, int limit) {
+        return searchAfter(titleContains(title), cursor, limit);
+    }
+
+    /**
+     * 생성일 기간으로 todo 커서 페이징 검색
+     * (생성일, id) 내림차순
+     *
+     * @param start 생성일 기간 시작일
+     * @param end 생성일 기간 종료일
+     * @param cursor 마지막으로 조회한 (생성일, id), 첫 페이지이면 null
+     * @param limit 조회할 최대 개수
+     * @return TodoSearchResponse 목록
+     */
+    @Override
+    public List<TodoSearchResponse> findByCreatedAtAfter(LocalDateTime start, LocalDateTime end, KeysetCursor cursor, int limit) {
+        return searchAfter(todo.createdAt.goe(start).and(todo.createdAt.loe(end)), cursor, limit);
+    }
+
+    /**
+     * 작성자 닉네임으로 할 일 커서 페이징 검색
+     * (생성일, id) 내림차순
+     *
+     * @param nickname 검색할 닉네임
+     * @param cursor 마지막으로 조회한 (생성일, id), 첫 페이지이면 null
+     * @param limit 조회할 최대 개수
+     * @return TodoSearchResponse 목록
+     */
+    @Override
+    public List<TodoSearchResponse> findByNicknameContainsAfter(String nickname, KeysetCursor cursor, int limit) {
+        return searchAfter(nicknameContains(nickname), cursor, limit);
+    }
+
+    /**
+     * 유저가 작성한 할 일 커서 페이징 조회
+     * (수정일, id) 내림차순이며, (user_id, modified_at, id) 인덱스 순서대로 읽으므로 해당 유저의 데이터만 읽는다.
+     *
+     * @param userId 작성자 id
+     * @param cursor 마지막으로 조회한 (수정일, id), 첫 페이지이면 null
+     * @param limit 조회할 최대 개수
+     * @return TodoSearchResponse 목록
+     */
+    @Override
+    public List<TodoSearchResponse> findByOwnerAfter(Long userId, KeysetCursor cursor, int limit) {
+        return queryFactory
+                .select(searchResponse())
                 .from(todo)
-                .leftJoin(todo.managers, manager)
-                .leftJoin(todo.comments, comment)
-                .leftJoin(todo.user, user).fetchJoin()
-                .where(todo.user.nickname.contains(nickname))
-                .groupBy(todo.id)
+                .where(todo.user.id.eq(userId), after(todo.modifiedAt, cursor))
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 유저가 담당자로 등록된 할 일 커서 페이징 조회
+     * (수정일, id) 내림차순이며, (user_id, todo_id) 인덱스로 담당 todo id를 찾은 뒤 todos PK로 조인한다.
+     *
+     * @param userId 담당자 유저 id
+     * @param cursor 마지막으로 조회한 (수정일, id), 첫 페이지이면 null
+     * @param limit 조회할 최대 개수
+     * @return TodoSearchResponse 목록
+     */
+    @Override
+    public List<TodoSearchResponse> findByManagerAfter(Long userId, KeysetCursor cursor, int limit) {
+        return queryFactory
+                .select(searchResponse())
+                .from(manager)
+                .join(manager.todo, todo)
+                .where(manager.user.id.eq(userId), after(todo.modifiedAt, cursor))
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private List<TodoSearchResponse> searchAfter(BooleanExpression condition, KeysetCursor cursor, int limit) {
+        return queryFactory
+                .select(searchResponse())
+                .from(todo)
+                .where(condition, after(todo.createdAt, cursor))
+                .orderBy(todo.createdAt.desc(), todo.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 전체 개수 계산 방식에 따라 Page 또는 Slice 생성
+     * NONE이면 size + 1 개를 조회해서 다음 페이지 여부만 확인하고 count 쿼리는 실행하지 않는다.
+     *
+     * @param contentQuery offset, limit이 적용되지 않은 목록 쿼리
+     * @param pageable 페이징 정보
+     * @param totalMode 전체 개수 계산 방식
+     * @param countKey APPROX일 때 사용할 정규화된 검색 조건
+     * @param counter count 쿼리
+     * @return 페이징 된 목록
+     */
+    private <T> Slice<T> toSlice(JPAQuery<T> contentQuery, Pageable pageable, TotalMode totalMode,
+                                 String countKey, LongSupplier counter) {
+        if (totalMode == TotalMode.NONE) {
+            List<T> content = contentQuery
+                    .offset(pageable.getOffset())
+                    .limit(pageable.getPageSize() + 1L)
+                    .fetch();
+            boolean hasNext = content.size() > pageable.getPageSize();
+
+            return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+        }
+
+        List<T> content = contentQuery
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
+        long total = totalMode == TotalMode.APPROX
+                ? todoCountCache.get(countKey, counter)
+                : counter.getAsLong();
 
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private long count(Predicate condition) {
         Long count = queryFactory.select(todo.count())
                 .from(todo)
-                .where(todo.user.nickname.contains(nickname))
+                .where(condition)
                 .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 목록 검색 조건 조합
+     */
+    private Predicate searchPredicate(TodoSearchCondition condition) {
+        return new BooleanBuilder()
+                .and(StringUtils.hasText(condition.getTitle()) ? titleContains(condition.getTitle()) : null)
+                .and(condition.getWeather() == null ? null : todo.weather.eq(condition.getWeather()))
+                .and(StringUtils.hasText(condition.getNickname()) ? nicknameContains(condition.getNickname()) : null)
+                .and(condition.getModifiedFrom() == null ? null : todo.modifiedAt.goe(condition.getModifiedFrom()))
+                .and(condition.getModifiedTo() == null ? null : todo.modifiedAt.loe(condition.getModifiedTo()))
+                .and(condition.getCreatedFrom() == null ? null : todo.createdAt.goe(condition.getCreatedFrom()))
+                .and(condition.getCreatedTo() == null ? null : todo.createdAt.loe(condition.getCreatedTo()));
+    }
+
+    /**
+     * 제목 검색 조건
+     * 제목 색인으로 찾은 todo id가 적으면 todos.id IN (...) 조건으로 바꿔서 다른 조건과 함께 인덱스로 조회한다.
+     */
+    private BooleanExpression titleContains(String title) {
+        long[] ids = todoTitleIndex.search(title);
+        if (ids == null || ids.length > MAX_INDEXED_IDS) {
+            return todo.title.contains(title);
+        }
+        if (ids.length == 0) {
+            return noMatch();
+        }
+        return todo.id.in(Arrays.stream(ids).boxed().toList());
+    }
 
-        return new PageImpl<>(content, pageable, count == null ? 0 : count);
+    /**
+     * 작성자 닉네임 검색 조건
+     * 닉네임 색인으로 찾은 user id가 있으면 todos.user_id IN (...) 조건으로 바꿔서 users 조인 없이 인덱스로 조회한다.
+     * 색인이 준비되지 않았거나 일치하는 유저가 너무 많으면 닉네임 LIKE 조건을 그대로 사용한다.
+     */
+    private BooleanExpression nicknameContains(String nickname) {
+        long[] userIds = userNicknameIndex.search(nickname);
+        if (userIds == null || userIds.length > MAX_INDEXED_IDS) {
+            return todo.user.nickname.contains(nickname);
+        }
+        if (userIds.length == 0) {
+            return noMatch();
+        }
+        return todo.user.id.in(Arrays.stream(userIds).boxed().toList());
+    }
+
+    /**
+     * 색인 검색 결과가 없을 때 사용하는 항상 거짓인 조건 (id는 null이 될 수 없음)
+     */
+    private static BooleanExpression noMatch() {
+        return todo.id.isNull();
+    }
+
+    /**
+     * total=approx 캐시 key (정렬 기준은 개수와 무관하므로 제외)
+     */
+    private static String countKey(TodoSearchCondition condition) {
+        return String.join("|", "list",
+                condition.getTitle() == null ? "" : NgramIndex.normalize(condition.getTitle()),
+                String.valueOf(condition.getWeather()),
+                condition.getNickname() == null ? "" : NgramIndex.normalize(condition.getNickname()),
+                String.valueOf(condition.getModifiedFrom()),
+                String.valueOf(condition.getModifiedTo()),
+                String.valueOf(condition.getCreatedFrom()),
+                String.valueOf(condition.getCreatedTo()));
+    }
+
+    private static DateTimePath<LocalDateTime> sortPath(TodoSortKey sortKey) {
+        return sortKey == TodoSortKey.CREATED_AT ? todo.createdAt : todo.modifiedAt;
+    }
+
+    /**
+     * 색인으로 찾은 todo id 목록 조회 (id 내림차순)
+     */
+    private List<TodoSearchResponse> findSearchResponsesByIds(long[] ids) {
+        if (ids.length == 0) {
+            return List.of();
+        }
+        return queryFactory
+                .select(searchResponse())
+                .from(todo)
+                .where(todo.id.in(Arrays.stream(ids).boxed().toList()))
+                .orderBy(todo.id.desc())
+                .fetch();
+    }
+
+    /**
+     * 목록 응답 projection (todos 컬럼 + users.id, users.email)
+     */
+    private ConstructorExpression<TodoResponse> todoResponse() {
+        return Projections.constructor(TodoResponse.class,
+                todo.id,
+                todo.title,
+                todo.contents,
+                todo.weather,
+                Projections.constructor(UserResponse.class, user.id, user.email),
+                todo.createdAt,
+                todo.modifiedAt
+        );
+    }
+
+    /**
+     * 검색 응답 projection
+     * 매니저 수, 댓글 수는 todo에 저장된 카운터를 사용하므로 managers, comments 조인이 필요 없다.
+     */
+    private ConstructorExpression<TodoSearchResponse> searchResponse() {
+        return Projections.constructor(TodoSearchResponse.class,
+                todo.id,
+                todo.title,
+                todo.managerCount,
+                todo.commentCount,
+                todo.createdAt,
+                todo.modifiedAt
+        );
+    }
+
+    /**
+     * (정렬 기준 시각, id) 내림차순 기준으로 커서 이후에 오는 행 조건
+     */
+    private BooleanExpression after(DateTimePath<LocalDateTime> timestamp, KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return timestamp.lt(cursor.getTimestamp())
+                .or(timestamp.eq(cursor.getTimestamp()).and(todo.id.lt(cursor.getId())));
     }
 }
@@ -0,0 +1,43 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.common.cache.ExpiringLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 검색 조건별 전체 개수 캐시 (total=approx)
+ * 정규화된 검색 조건을 key로 count 쿼리 결과를 짧은 시간 동안 재사용한다.
+ */
+@Component
+public class TodoCountCache {
+
+    private final ExpiringLruCache<String, Long> counts;
+    private final long ttlMillis;
+
+    public TodoCountCache(@Value("${todo.search.count-cache.ttl-seconds:30}") long ttlSeconds,
+                          @Value("${todo.search.count-cache.max-entries:10000}") int maxEntries) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.counts = new ExpiringLruCache<>(maxEntries);
+    }
+
+    /**
+     * 캐시된 전체 개수 조회, 없거나 만료되었으면 counter로 다시 계산
+     *
+     * @param key 정규화된 검색 조건
+     * @param counter count 쿼리
+     * @return 전체 개수
+     */
+    public long get(String key, LongSupplier counter) {
+        long now = System.currentTimeMillis();
+        Long cached = counts.get(key, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        long count = counter.getAsLong();
+        counts.put(key, count, now + ttlMillis);
+        return count;
+    }
+}
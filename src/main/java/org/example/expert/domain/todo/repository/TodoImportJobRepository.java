@@ -0,0 +1,7 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.TodoImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TodoImportJobRepository extends JpaRepository<TodoImportJob, Long> {
+}
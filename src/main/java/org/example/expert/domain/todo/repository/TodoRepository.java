@@ -1,41 +1,36 @@
 package org.example.expert.domain.todo.repository;
 
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long>, QTodoRepository {
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
-
-    @Query("SELECT t FROM Todo t " +
-            "WHERE t.modifiedAt >= :startOfDay AND t.modifiedAt <= :endOfDay " +
-            "ORDER BY t.modifiedAt DESC")
-    Page<Todo> findByModifiedAt(@Param("startOfDay") LocalDateTime startOfDay,
-                                @Param("endOfDay") LocalDateTime endOfDay,
-                                Pageable pageable);
-
-    @Query("SELECT t FROM Todo t " +
-            "WHERE t.modifiedAt >= :startOfDay AND " +
-            "t.modifiedAt <= :endOfDay AND " +
-            "t.weather = :weather " +
-            "ORDER BY t.modifiedAt DESC")
-    Page<Todo> findByWeatherAndModifiedAt(@Param("weather") String weather,
-                                          @Param("startOfDay") LocalDateTime startOfDay,
-                                          @Param("endOfDay") LocalDateTime endOfDay,
-                                          Pageable pageable);
-
-    @Query("SELECT t FROM Todo t " +
-            "WHERE t.weather = :weather " +
-            "ORDER BY t.modifiedAt DESC")
-    Page<Todo> findByWeather(String weather, Pageable pageable);
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + 1 WHERE t.id = :todoId")
+    int increaseCommentCount(@Param("todoId") Long todoId);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta WHERE t.id = :todoId")
+    int updateManagerCount(@Param("todoId") Long todoId, @Param("delta") int delta);
+
+    @Query("SELECT MAX(t.id) FROM Todo t")
+    Long findMaxId();
+
+    // id 구간 단위로 managers, comments 테이블 기준 카운터를 다시 계산
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE todos SET " +
+            "manager_count = (SELECT COUNT(*) FROM managers m WHERE m.todo_id = todos.id), " +
+            "comment_count = (SELECT COUNT(*) FROM comments c WHERE c.todo_id = todos.id) " +
+            "WHERE id BETWEEN :fromId AND :toId",
+            nativeQuery = true)
+    int repairCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 
 //    @Query("SELECT t FROM Todo t " +
 //            "LEFT JOIN t.user " +
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.example.expert.domain.common.index.EntityNgramIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import static org.example.expert.domain.todo.entity.QTodo.todo;
+
+/**
+ * todo 제목 n-gram 색인
+ * title LIKE '%x%' 는 인덱스를 탈 수 없으므로 제목 검색 시 이 색인으로 후보 id를 먼저 찾는다.
+ * 애플리케이션 시작 시 전체 todo를 읽어 만들고, 이후에는 todo 저장 시마다 추가한다. (다른 인스턴스에서 저장된 todo는 주기적으로 반영)
+ */
+@Component
+public class TodoTitleIndex extends EntityNgramIndex {
+
+    public TodoTitleIndex(JPAQueryFactory queryFactory, @Value("${todo.title-index.gram-size:2}") int gramSize) {
+        super(queryFactory, todo, todo.id, todo.title, todo.createdAt, gramSize);
+    }
+}
@@ -0,0 +1,222 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveJobResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoSaveJobStatus;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoTitleIndex;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 비동기 할 일 저장 (POST /todos?async=true)
+ *
+ * <p>요청은 제한된 크기의 큐에 넣고 작업 id를 바로 반환한다. 큐가 가득 차면 429로 거절한다.
+ * 워커는 큐에서 최대 batchSize개씩 꺼내 날씨를 한 번만 조회하고, 작성자를 한 번에 조회한 뒤
+ * 할 일과 기본 담당자를 하나의 트랜잭션에서 저장한다.
+ * 종료 시에는 새 요청을 503으로 거절하고, 이미 202로 접수한 작업은 shutdown-timeout-seconds 동안 모두 처리한다.
+ * 그 안에 처리하지 못한 작업은 실패로 표시하고 로그를 남긴다.
+ */
+@Slf4j
+@Service
+public class TodoAsyncSaveService {
+
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+    private final WeatherClient weatherClient;
+    private final TodoTitleIndex todoTitleIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<TodoSaveJob> queue;
+    private final Map<String, TodoSaveJob> jobs = new ConcurrentHashMap<>();
+    private final int workerCount;
+    private final int batchSize;
+    private final long jobTtlMillis;
+    private final long shutdownTimeoutSeconds;
+    private ExecutorService workers;
+    private volatile boolean accepting;
+
+    public TodoAsyncSaveService(TodoRepository todoRepository,
+                                UserRepository userRepository,
+                                WeatherClient weatherClient,
+                                TodoTitleIndex todoTitleIndex,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${todo.async.queue-capacity:1000}") int queueCapacity,
+                                @Value("${todo.async.workers:2}") int workerCount,
+                                @Value("${todo.async.batch-size:100}") int batchSize,
+                                @Value("${todo.async.job-ttl-seconds:3600}") long jobTtlSeconds,
+                                @Value("${todo.async.shutdown-timeout-seconds:30}") long shutdownTimeoutSeconds) {
+        this.todoRepository = todoRepository;
+        this.userRepository = userRepository;
+        this.weatherClient = weatherClient;
+        this.todoTitleIndex = todoTitleIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.jobTtlMillis = jobTtlSeconds * 1000;
+        this.shutdownTimeoutSeconds = shutdownTimeoutSeconds;
+    }
+
+    @PostConstruct
+    public void start() {
+        accepting = true;
+        AtomicInteger threadIndex = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "todo-async-save-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::drain);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        accepting = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(shutdownTimeoutSeconds, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+            workers.awaitTermination(5, TimeUnit.SECONDS);
+        }
+
+        List<TodoSaveJob> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        if (!pending.isEmpty()) {
+            pending.forEach(job -> job.fail("서버 종료로 할 일 저장을 처리하지 못했습니다."));
+            log.error("종료 전에 처리하지 못한 비동기 할 일 저장 작업 {}건, jobIds={}",
+                    pending.size(), pending.stream().map(TodoSaveJob::getId).toList());
+        }
+    }
+
+    /**
+     * 할 일 저장 요청 등록
+     *
+     * @return 등록된 작업 (상태 QUEUED)
+     */
+    public TodoSaveJobResponse enqueue(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
+        if (!accepting) {
+            throw new ServiceUnavailableException("서버가 종료 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        TodoSaveJob job = new TodoSaveJob(
+                UUID.randomUUID().toString(),
+                authUser.getId(),
+                todoSaveRequest.getTitle(),
+                todoSaveRequest.getContents()
+        );
+
+        jobs.put(job.getId(), job);
+        if (!queue.offer(job)) {
+            jobs.remove(job.getId());
+            throw new TooManyRequestsException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * 작업 상태 조회 (요청한 유저만 조회 가능)
+     */
+    public TodoSaveJobResponse getJob(AuthUser authUser, String jobId) {
+        TodoSaveJob job = jobs.get(jobId);
+        if (job == null || job.getUserId() != authUser.getId()) {
+            throw new InvalidRequestException("존재하지 않는 작업입니다.");
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * 완료 후 job-ttl-seconds가 지난 작업 정리
+     */
+    @Scheduled(fixedDelayString = "${todo.async.cleanup-interval-millis:60000}")
+    public void evictFinishedJobs() {
+        long expiredBefore = System.currentTimeMillis() - jobTtlMillis;
+        jobs.values().removeIf(job -> job.getStatus() != TodoSaveJobStatus.QUEUED && job.getFinishedAt() < expiredBefore);
+    }
+
+    /**
+     * 접수를 멈춘 뒤에도 큐가 빌 때까지 처리한다.
+     */
+    private void drain() {
+        List<TodoSaveJob> batch = new ArrayList<>(batchSize);
+        while (accepting || !queue.isEmpty()) {
+            try {
+                TodoSaveJob first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("비동기 할 일 저장 실패 size={}", batch.size(), e);
+                batch.forEach(job -> job.fail("할 일 저장에 실패했습니다."));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<TodoSaveJob> batch) {
+        // 원격 호출은 트랜잭션 밖에서 배치당 한 번만
+        String weather = weatherClient.getTodayWeather();
+
+        List<TodoSaveJob> saving = new ArrayList<>(batch.size());
+        List<Todo> savedTodos = transactionTemplate.execute(status -> {
+            Set<Long> userIds = batch.stream().map(TodoSaveJob::getUserId).collect(Collectors.toSet());
+            Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity()));
+
+            List<Todo> todos = new ArrayList<>(batch.size());
+            for (TodoSaveJob job : batch) {
+                User user = users.get(job.getUserId());
+                if (user == null) {
+                    job.fail("존재하지 않는 유저입니다.");
+                    continue;
+                }
+                saving.add(job);
+                todos.add(new Todo(job.getTitle(), job.getContents(), weather, user));
+            }
+
+            List<Todo> saved = todoRepository.saveAll(todos);
+            saved.forEach(todo -> todoTitleIndex.add(todo.getId(), todo.getTitle()));
+            return saved;
+        });
+
+        // 커밋 이후에 완료 처리
+        for (int i = 0; i < savedTodos.size(); i++) {
+            saving.get(i).done(savedTodos.get(i).getId());
+        }
+    }
+}
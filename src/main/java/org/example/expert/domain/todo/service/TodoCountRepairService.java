@@ -0,0 +1,69 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.service.SchedulerLockService;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * todo 담당자 수, 댓글 수 카운터 백필/보정 작업
+ * 카운터는 담당자/댓글 저장 시 갱신되지만, 기존 데이터 백필과 누락 보정을 위해 주기적으로 다시 계산한다.
+ * 모든 인스턴스에서 cron이 실행되므로 DB 잠금(SchedulerLockService)을 얻은 한 곳에서만 보정한다.
+ * 시작 시 보정은 기본으로 꺼져 있다. (배포할 때마다 모든 인스턴스가 전체 테이블을 다시 계산하지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoCountRepairService {
+
+    private static final long CHUNK_SIZE = 1000;
+    private static final String LOCK_NAME = "todo-count-repair";
+    // 보정 시간보다 길고 실행 주기(하루)보다 짧게
+    private static final Duration LOCK_DURATION = Duration.ofHours(1);
+
+    private final TodoRepository todoRepository;
+    private final SchedulerLockService schedulerLockService;
+
+    @Value("${todo.count-repair.on-startup:false}")
+    private boolean repairOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairOnStartup() {
+        if (repairOnStartup) {
+            repairWithLock();
+        }
+    }
+
+    @Scheduled(cron = "${todo.count-repair.cron:0 0 4 * * *}")
+    public void repairWithLock() {
+        if (!schedulerLockService.tryLock(LOCK_NAME, LOCK_DURATION)) {
+            log.info("다른 인스턴스에서 todo 카운터 보정 중 - 건너뜀");
+            return;
+        }
+        repairAll();
+    }
+
+    /**
+     * 전체 todo 카운터 재계산
+     * 한 번에 큰 UPDATE를 실행하지 않도록 id 구간마다 별도 트랜잭션으로 나눠서 처리한다.
+     */
+    public void repairAll() {
+        Long maxId = todoRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+
+        int updated = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += CHUNK_SIZE) {
+            updated += todoRepository.repairCounts(fromId, fromId + CHUNK_SIZE - 1);
+        }
+        log.info("todo 카운터 보정 완료 - 대상 todo 수: {}", updated);
+    }
+}
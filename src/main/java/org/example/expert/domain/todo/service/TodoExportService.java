@@ -0,0 +1,84 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * todo 전체 내보내기 (NDJSON)
+ *
+ * <p>StatelessSession + ScrollableResults로 id 오름차순으로 한 행씩 읽어서 바로 쓰기 때문에
+ * 영속성 컨텍스트에 엔티티가 쌓이지 않고, 테이블 크기와 무관하게 메모리 사용량이 일정하다.
+ * MySQL은 JDBC URL에 useCursorFetch=true가 있어야 fetch size 단위로 나눠서 가져온다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoExportService {
+
+    private static final String EXPORT_QUERY =
+            "SELECT t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt " +
+            "FROM Todo t JOIN t.user u " +
+            "WHERE t.id > :lastId " +
+            "ORDER BY t.id";
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectMapper objectMapper;
+
+    @Value("${todo.export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * lastId 이후의 todo를 한 줄에 하나씩 TodoResponse JSON으로 출력
+     *
+     * @param lastId 마지막으로 받은 todo id (null이면 처음부터)
+     * @param outputStream 응답 스트림
+     */
+    public void export(Long lastId, OutputStream outputStream) throws IOException {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        OutputStream out = new BufferedOutputStream(outputStream);
+
+        try (StatelessSession session = sessionFactory.openStatelessSession();
+             ScrollableResults<Object[]> rows = session.createQuery(EXPORT_QUERY, Object[].class)
+                     .setParameter("lastId", lastId == null ? 0L : lastId)
+                     .setFetchSize(fetchSize)
+                     .setReadOnly(true)
+                     .scroll(ScrollMode.FORWARD_ONLY)) {
+
+            int written = 0;
+            while (rows.next()) {
+                Object[] row = rows.get();
+                TodoResponse todo = new TodoResponse(
+                        (Long) row[0],
+                        (String) row[1],
+                        (String) row[2],
+                        (String) row[3],
+                        new UserResponse((Long) row[4], (String) row[5]),
+                        (LocalDateTime) row[6],
+                        (LocalDateTime) row[7]
+                );
+                out.write(objectMapper.writeValueAsBytes(todo));
+                out.write('\n');
+
+                // 클라이언트가 받은 만큼 이어받기 할 수 있도록 주기적으로 내보낸다.
+                if (++written % FLUSH_INTERVAL == 0) {
+                    out.flush();
+                }
+            }
+        }
+        out.flush();
+    }
+}
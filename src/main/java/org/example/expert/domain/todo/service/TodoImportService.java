@@ -0,0 +1,305 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.csv.CsvReader;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.todo.dto.response.TodoImportJobResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoImportJob;
+import org.example.expert.domain.todo.enums.TodoImportStatus;
+import org.example.expert.domain.todo.repository.TodoImportJobRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoTitleIndex;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 할 일 CSV 가져오기
+ *
+ * <p>CSV 형식: 헤더 한 줄 + title,contents,email[,weather]
+ * 업로드된 파일은 임시 파일로 옮긴 뒤 워커 스레드가 한 행씩 읽어 batchSize개마다 하나의 트랜잭션으로 저장한다.
+ * 각 batch 트랜잭션에서 작업의 committedRows도 함께 갱신하므로, 실패한 작업은 같은 파일을 jobId와 함께
+ * 다시 올리면 마지막으로 커밋된 행 다음부터 이어서 가져온다. (파일 크기와 SHA-256이 처음 업로드한 파일과 다르면 거부)
+ * RUNNING 작업은 stale-after-seconds 동안 진행이 없을 때만 이어받는다. (서버 재시작으로 멈춘 작업)
+ * 제목/내용이 비었거나 컬럼 길이(255)를 넘거나 email에 해당하는 유저가 없는 행은 건너뛴다.
+ */
+@Slf4j
+@Service
+public class TodoImportService {
+
+    private static final int MAX_FIELD_LENGTH = 64 * 1024;
+    // todos 문자열 컬럼 길이 (넘는 행은 insert 전체를 실패시키므로 건너뛴다)
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    private final TodoRepository todoRepository;
+    private final TodoImportJobRepository todoImportJobRepository;
+    private final UserRepository userRepository;
+    private final WeatherClient weatherClient;
+    private final TodoTitleIndex todoTitleIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long staleAfterSeconds;
+    private final ExecutorService workers;
+
+    public TodoImportService(TodoRepository todoRepository,
+                             TodoImportJobRepository todoImportJobRepository,
+                             UserRepository userRepository,
+                             WeatherClient weatherClient,
+                             TodoTitleIndex todoTitleIndex,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${todo.import.batch-size:500}") int batchSize,
+                             @Value("${todo.import.workers:1}") int workerCount,
+                             @Value("${todo.import.queue-capacity:10}") int queueCapacity,
+                             @Value("${todo.import.stale-after-seconds:600}") long staleAfterSeconds) {
+        this.todoRepository = todoRepository;
+        this.todoImportJobRepository = todoImportJobRepository;
+        this.userRepository = userRepository;
+        this.weatherClient = weatherClient;
+        this.todoTitleIndex = todoTitleIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.staleAfterSeconds = staleAfterSeconds;
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "todo-import");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * 가져오기 시작 (jobId가 있으면 실패한 작업을 이어서 진행)
+     *
+     * @param file CSV 파일
+     * @param jobId 이어서 진행할 작업 id
+     * @return 시작된 작업
+     */
+    public TodoImportJobResponse start(MultipartFile file, Long jobId) {
+        if (file.isEmpty()) {
+            throw new InvalidRequestException("파일이 비어 있습니다.");
+        }
+
+        // 컨테이너가 디스크에 저장한 업로드 파일을 옮겨 두고 요청이 끝난 뒤에도 읽는다.
+        Path path;
+        String sha256;
+        try {
+            path = Files.createTempFile("todo-import-", ".csv");
+        } catch (IOException e) {
+            throw new ServerException("업로드 파일을 저장하지 못했습니다.");
+        }
+        try {
+            file.transferTo(path);
+            sha256 = sha256(path);
+        } catch (IOException e) {
+            deleteQuietly(path);
+            throw new ServerException("업로드 파일을 저장하지 못했습니다.");
+        }
+        long fileSize = file.getSize();
+
+        TodoImportJob job;
+        try {
+            job = transactionTemplate.execute(status -> {
+                if (jobId == null) {
+                    return todoImportJobRepository.save(
+                            new TodoImportJob(file.getOriginalFilename(), fileSize, sha256));
+                }
+                TodoImportJob resumed = todoImportJobRepository.findById(jobId)
+                        .orElseThrow(() -> new InvalidRequestException("존재하지 않는 가져오기 작업입니다."));
+                if (resumed.getStatus() == TodoImportStatus.COMPLETED) {
+                    throw new InvalidRequestException("이미 완료된 작업입니다.");
+                }
+                // 다른 서버에서 진행 중인 작업은 일정 시간 진행이 없을 때만 이어받는다. (서버 재시작으로 멈춘 작업)
+                if (resumed.getStatus() == TodoImportStatus.RUNNING
+                        && !resumed.isStalled(LocalDateTime.now().minusSeconds(staleAfterSeconds))) {
+                    throw new InvalidRequestException("이미 진행 중인 작업입니다.");
+                }
+                // 다른 파일이면 committedRows만큼 건너뛴 위치가 의미가 없다.
+                if (!resumed.isSameFile(fileSize, sha256)) {
+                    throw new InvalidRequestException("처음 업로드한 파일과 같은 파일이어야 이어서 가져올 수 있습니다.");
+                }
+                resumed.start();
+                return resumed;
+            });
+        } catch (OptimisticLockingFailureException e) {
+            // 다른 요청/서버가 같은 작업을 먼저 이어받음 (version 충돌)
+            deleteQuietly(path);
+            throw new InvalidRequestException("이미 진행 중인 작업입니다.");
+        } catch (RuntimeException e) {
+            deleteQuietly(path);
+            throw e;
+        }
+
+        String runToken = job.getRunToken();
+        try {
+            workers.execute(() -> run(job.getId(), runToken, job.getCommittedRows(), path));
+        } catch (RejectedExecutionException e) {
+            deleteQuietly(path);
+            markFailed(job.getId(), runToken, "진행 중인 가져오기 작업이 너무 많습니다.");
+            throw new TooManyRequestsException("진행 중인 가져오기 작업이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return new TodoImportJobResponse(job);
+    }
+
+    public TodoImportJobResponse getJob(long jobId) {
+        TodoImportJob job = todoImportJobRepository.findById(jobId)
+                .orElseThrow(() -> new InvalidRequestException("존재하지 않는 가져오기 작업입니다."));
+        return new TodoImportJobResponse(job);
+    }
+
+    private void run(long jobId, String runToken, long committedRows, Path path) {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            CsvReader csvReader = new CsvReader(reader, MAX_FIELD_LENGTH);
+            csvReader.readRow(); // 헤더
+
+            // 이미 커밋된 행은 읽기만 하고 건너뛴다.
+            for (long i = 0; i < committedRows; i++) {
+                if (csvReader.readRow() == null) {
+                    break;
+                }
+            }
+
+            List<List<String>> batch = new ArrayList<>(batchSize);
+            List<String> row;
+            while ((row = csvReader.readRow()) != null) {
+                batch.add(row);
+                if (batch.size() == batchSize) {
+                    saveBatch(jobId, runToken, batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                saveBatch(jobId, runToken, batch);
+            }
+
+            transactionTemplate.executeWithoutResult(status -> findRunningJob(jobId, runToken).complete());
+        } catch (Exception e) {
+            log.error("할 일 가져오기 실패 jobId={}", jobId, e);
+            markFailed(jobId, runToken, e.getMessage());
+        } finally {
+            deleteQuietly(path);
+        }
+    }
+
+    private void saveBatch(long jobId, String runToken, List<List<String>> rows) {
+        // 원격 호출은 트랜잭션 밖에서
+        boolean needsWeather = rows.stream().anyMatch(row -> !StringUtils.hasText(field(row, 3)));
+        String todayWeather = needsWeather ? weatherClient.getTodayWeather() : null;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<String> emails = new HashSet<>();
+            rows.stream().map(row -> field(row, 2)).filter(StringUtils::hasText).forEach(emails::add);
+            Map<String, User> users = userRepository.findAllByEmailIn(emails).stream()
+                    .collect(Collectors.toMap(User::getEmail, Function.identity()));
+
+            // 다른 서버가 작업을 이어받았으면 이 batch는 넣지 않는다. (version 충돌로도 커밋이 실패한다)
+            TodoImportJob job = findRunningJob(jobId, runToken);
+
+            List<Todo> todos = new ArrayList<>(rows.size());
+            for (List<String> row : rows) {
+                String title = field(row, 0);
+                String contents = field(row, 1);
+                User user = users.get(field(row, 2));
+                String weather = StringUtils.hasText(field(row, 3)) ? field(row, 3) : todayWeather;
+                if (!StringUtils.hasText(title) || !StringUtils.hasText(contents) || user == null
+                        || title.length() > MAX_COLUMN_LENGTH || contents.length() > MAX_COLUMN_LENGTH
+                        || (weather != null && weather.length() > MAX_COLUMN_LENGTH)) {
+                    continue;
+                }
+                todos.add(new Todo(title, contents, weather, user));
+            }
+
+            todoRepository.saveAll(todos).forEach(todo -> todoTitleIndex.add(todo.getId(), todo.getTitle()));
+            job.commitBatch(todos.size(), rows.size() - todos.size());
+        });
+    }
+
+    private TodoImportJob findRunningJob(long jobId, String runToken) {
+        TodoImportJob job = todoImportJobRepository.findById(jobId)
+                .orElseThrow(() -> new ServerException("가져오기 작업이 삭제되었습니다."));
+        if (!job.isRunBy(runToken)) {
+            throw new ServerException("다른 서버가 가져오기 작업을 이어받았습니다.");
+        }
+        return job;
+    }
+
+    // 다른 서버가 이어받은 작업은 실패로 바꾸지 않는다.
+    private void markFailed(long jobId, String runToken, String message) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> todoImportJobRepository.findById(jobId)
+                    .filter(job -> job.isRunBy(runToken))
+                    .ifPresent(job -> job.fail(message)));
+        } catch (RuntimeException e) {
+            log.error("가져오기 작업 실패 기록 실패 jobId={}", jobId, e);
+        }
+    }
+
+    private static String field(List<String> row, int index) {
+        if (index >= row.size()) {
+            return null;
+        }
+        return row.get(index).strip();
+    }
+
+    private static String sha256(Path path) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = Files.newInputStream(path)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패 path={}", path, e);
+        }
+    }
+}
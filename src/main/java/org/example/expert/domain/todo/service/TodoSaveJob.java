@@ -0,0 +1,45 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.Getter;
+import org.example.expert.domain.todo.dto.response.TodoSaveJobResponse;
+import org.example.expert.domain.todo.enums.TodoSaveJobStatus;
+
+/**
+ * 비동기 할 일 저장 작업
+ * 요청 스레드가 만들고 워커 스레드가 결과를 채운다.
+ */
+@Getter
+class TodoSaveJob {
+
+    private final String id;
+    private final long userId;
+    private final String title;
+    private final String contents;
+    private volatile TodoSaveJobStatus status = TodoSaveJobStatus.QUEUED;
+    private volatile Long todoId;
+    private volatile String message;
+    private volatile long finishedAt;
+
+    TodoSaveJob(String id, long userId, String title, String contents) {
+        this.id = id;
+        this.userId = userId;
+        this.title = title;
+        this.contents = contents;
+    }
+
+    void done(Long todoId) {
+        this.todoId = todoId;
+        this.finishedAt = System.currentTimeMillis();
+        this.status = TodoSaveJobStatus.DONE;
+    }
+
+    void fail(String message) {
+        this.message = message;
+        this.finishedAt = System.currentTimeMillis();
+        this.status = TodoSaveJobStatus.FAILED;
+    }
+
+    TodoSaveJobResponse toResponse() {
+        return new TodoSaveJobResponse(id, status, todoId, message);
+    }
+}
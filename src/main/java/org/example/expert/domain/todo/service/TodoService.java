@@ -1,44 +1,104 @@
 package org.example.expert.domain.todo.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.enums.TotalMode;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoMemberRole;
+import org.example.expert.domain.todo.enums.TodoSortKey;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoTitleIndex;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    // 커서 페이징 한 페이지 최대 크기 (size + 1개를 조회하므로 너무 크면 한 요청이 많은 행을 읽는다)
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final UserRepository userRepository;
     private final WeatherClient weatherClient;
+    private final TodoTitleIndex todoTitleIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 검색 API별 기본 전체 개수 계산 방식
+    @Value("${todo.search.total.list:exact}")
+    private String listTotalMode;
+    @Value("${todo.search.total.title:exact}")
+    private String titleTotalMode;
+    @Value("${todo.search.total.date:exact}")
+    private String dateTotalMode;
+    @Value("${todo.search.total.nickname:exact}")
+    private String nicknameTotalMode;
 
-    @Transactional
+    /**
+     * 할 일 저장
+     * 날씨 조회(원격 호출)를 트랜잭션 밖에서 먼저 끝내고, DB 작업만 짧은 트랜잭션으로 실행한다.
+     * OSIV로 열린 영속성 컨텍스트도 첫 DB 접근 전에는 커넥션을 잡지 않으므로 원격 호출 동안 커넥션을 점유하지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
-        User user = userRepository.findById(authUser.getId())
-                .orElseThrow(() -> new RuntimeException("존재하지 않는 유저입니다."));
+        String weather = weatherClient.getTodayWeather();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return transactionTemplate.execute(status -> insertTodo(authUser, todoSaveRequest, weather));
+        } finally {
+            sample.stop(meterRegistry.timer("todo.save.transaction"));
+        }
+    }
 
+    /**
+     * 할 일 여러 개 저장
+     * 날씨는 한 번만 조회하고, 모든 할 일과 기본 담당자를 하나의 트랜잭션에서 JDBC batch insert로 저장한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TodoSaveResponse> saveTodos(AuthUser authUser, TodoBatchSaveRequest todoBatchSaveRequest) {
         String weather = weatherClient.getTodayWeather();
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return transactionTemplate.execute(status -> insertTodos(authUser, todoBatchSaveRequest.getTodos(), weather));
+        } finally {
+            sample.stop(meterRegistry.timer("todo.save.transaction"));
+        }
+    }
+
+    private TodoSaveResponse insertTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest, String weather) {
+        User user = userRepository.findById(authUser.getId())
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 유저입니다."));
+
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
                 todoSaveRequest.getContents(),
@@ -46,6 +106,7 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoTitleIndex.add(savedTodo.getId(), savedTodo.getTitle());
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -56,52 +117,37 @@ public class TodoService {
         );
     }
 
+    private List<TodoSaveResponse> insertTodos(AuthUser authUser, List<TodoSaveRequest> requests, String weather) {
+        User user = userRepository.findById(authUser.getId())
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 유저입니다."));
+        UserResponse userResponse = new UserResponse(user.getId(), user.getEmail());
+
+        List<Todo> newTodos = requests.stream()
+                .map(request -> new Todo(request.getTitle(), request.getContents(), weather, user))
+                .toList();
+        List<Todo> savedTodos = todoRepository.saveAll(newTodos);
+
+        return savedTodos.stream()
+                .map(todo -> {
+                    todoTitleIndex.add(todo.getId(), todo.getTitle());
+                    return new TodoSaveResponse(todo.getId(), todo.getTitle(), todo.getContents(), weather, userResponse);
+                })
+                .toList();
+    }
+
     /**
-     * 할 일 검색 (날씨, 수정일)
+     * 할 일 검색 (제목, 날씨, 작성자 닉네임, 수정일, 생성일)
      *
      * @param page 페이지 번호
      * @param size 한 페이지에 데이터 수
-     * @param weather 날씨 검색
-     * @param startDate 수정일 검색 기간 시작일
-     * @param endDate 수정일 검색 기간 종료일
+     * @param condition 검색 조건
+     * @param total 전체 개수 계산 방식 (none, approx, exact), null이면 기본값
      * @return 페이징된 할 일 목록
      */
-    public Page<TodoResponse> getTodos(int page, int size, String weather, String startDate, String endDate) {
+    public Slice<TodoResponse> getTodos(int page, int size, TodoSearchCondition condition, String total) {
         Pageable pageable = PageRequest.of(page - 1, size);
-        Page<Todo> todos;
-
-        // 날씨, 수정일 모두 검색
-        if(weather != null && startDate != null && endDate != null){
-            LocalDateTime startOfDay = LocalDate.parse(startDate, DateTimeFormatter.ISO_LOCAL_DATE).atStartOfDay();
-            LocalDateTime endOfDay = LocalDate.parse(endDate, DateTimeFormatter.ISO_LOCAL_DATE).atTime(23, 59, 59);
-
-            todos = todoRepository.findByWeatherAndModifiedAt(weather, startOfDay, endOfDay, pageable);
-        }
-        // 수정일 검색
-        else if(weather == null && startDate != null && endDate != null){
-            LocalDateTime startOfDay = LocalDate.parse(startDate, DateTimeFormatter.ISO_LOCAL_DATE).atStartOfDay();
-            LocalDateTime endOfDay = LocalDate.parse(endDate, DateTimeFormatter.ISO_LOCAL_DATE).atTime(23, 59, 59);
 
-            todos = todoRepository.findByModifiedAt(startOfDay, endOfDay, pageable);
-        }
-        // 날짜 검색
-        else if(weather != null){
-            todos = todoRepository.findByWeather(weather, pageable);
-        }
-        // 모두 검색 (검색 조건 없음)
-        else{
-            todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-        }
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        return todoRepository.search(condition, pageable, totalMode(total, listTotalMode));
     }
 
     /**
@@ -133,12 +179,13 @@ public class TodoService {
      * @param page 페이지 번호
      * @param size 한 페이지에 데이터 수
      * @param title 제목 검색
+     * @param total 전체 개수 계산 방식 (none, approx, exact), null이면 기본값
      * @return 페이징된 할 일 목록
      */
-    public Page<TodoSearchResponse> searchTodoByTitle(int page, int size, String title) {
+    public Slice<TodoSearchResponse> searchTodoByTitle(int page, int size, String title, String total) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        return todoRepository.findByTitleContains(title, pageable);
+        return todoRepository.findByTitleContains(title, pageable, totalMode(total, titleTotalMode));
     }
 
     /**
@@ -148,15 +195,16 @@ public class TodoService {
      * @param size 한 페이지에 데이터 수
      * @param startDate 생성일 검색 기간 시작일
      * @param endDate 생성일 검색 기간 종료일
+     * @param total 전체 개수 계산 방식 (none, approx, exact), null이면 기본값
      * @return 페이징된 할 일 목록
      */
-    public Page<TodoSearchResponse> searchTodoByCreateAt(int page, int size, String startDate, String endDate) {
+    public Slice<TodoSearchResponse> searchTodoByCreateAt(int page, int size, String startDate, String endDate, String total) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
         LocalDateTime startOfDay = LocalDate.parse(startDate, DateTimeFormatter.ISO_LOCAL_DATE).atStartOfDay();
         LocalDateTime endOfDay = LocalDate.parse(endDate, DateTimeFormatter.ISO_LOCAL_DATE).atTime(23, 59, 59);
 
-        return todoRepository.findByCreatedAt(startOfDay, endOfDay, pageable);
+        return todoRepository.findByCreatedAt(startOfDay, endOfDay, pageable, totalMode(total, dateTotalMode));
     }
 
     /**
@@ -164,11 +212,115 @@ public class TodoService {
      * @param page 페이지 번호
      * @param size 한 페이지에 데이터 수
      * @param nickname 닉네임 검색
+     * @param total 전체 개수 계산 방식 (none, approx, exact), null이면 기본값
      * @return 페이징된 할 일 목록
      */
-    public Page<TodoSearchResponse> searchTodoByNickname(int page, int size, String nickname) {
+    public Slice<TodoSearchResponse> searchTodoByNickname(int page, int size, String nickname, String total) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        return todoRepository.findByNicknameContains(nickname, pageable);
+        return todoRepository.findByNicknameContains(nickname, pageable, totalMode(total, nicknameTotalMode));
+    }
+
+    /**
+     * 할 일 커서 페이징 검색 (제목, 날씨, 작성자 닉네임, 수정일, 생성일)
+     *
+     * @param cursor 이전 페이지의 nextCursor (비어 있으면 첫 페이지)
+     * @param size 한 페이지에 데이터 수
+     * @param condition 검색 조건
+     * @return 커서 페이징된 할 일 목록
+     */
+    public CursorResponse<TodoResponse> getTodosByCursor(String cursor, int size, TodoSearchCondition condition) {
+        validateCursorSize(size);
+
+        List<TodoResponse> todos = todoRepository.searchByCursor(condition, KeysetCursor.decode(cursor), size + 1);
+
+        return CursorResponse.of(todos, size, todo -> new KeysetCursor(
+                condition.getSortKey() == TodoSortKey.CREATED_AT ? todo.getCreatedAt() : todo.getModifiedAt(),
+                todo.getId()
+        ));
+    }
+
+    /**
+     * 할 일 제목으로 커서 페이징 조회
+     *
+     * @param cursor 이전 페이지의 nextCursor (비어 있으면 첫 페이지)
+     * @param size 한 페이지에 데이터 수
+     * @param title 제목 검색
+     * @return 커서 페이징된 할 일 목록
+     */
+    public CursorResponse<TodoSearchResponse> searchTodoByTitle(String cursor, int size, String title) {
+        validateCursorSize(size);
+
+        List<TodoSearchResponse> todos = todoRepository.findByTitleContainsAfter(title, KeysetCursor.decode(cursor), size + 1);
+        return CursorResponse.of(todos, size, TodoService::createdAtCursor);
+    }
+
+    /**
+     * 할 일 생성일 기간 커서 페이징 조회
+     *
+     * @param cursor 이전 페이지의 nextCursor (비어 있으면 첫 페이지)
+     * @param size 한 페이지에 데이터 수
+     * @param startDate 생성일 검색 기간 시작일
+     * @param endDate 생성일 검색 기간 종료일
+     * @return 커서 페이징된 할 일 목록
+     */
+    public CursorResponse<TodoSearchResponse> searchTodoByCreateAt(String cursor, int size, String startDate, String endDate) {
+        validateCursorSize(size);
+
+        LocalDateTime startOfDay = LocalDate.parse(startDate, DateTimeFormatter.ISO_LOCAL_DATE).atStartOfDay();
+        LocalDateTime endOfDay = LocalDate.parse(endDate, DateTimeFormatter.ISO_LOCAL_DATE).atTime(23, 59, 59);
+
+        List<TodoSearchResponse> todos = todoRepository.findByCreatedAtAfter(startOfDay, endOfDay, KeysetCursor.decode(cursor), size + 1);
+        return CursorResponse.of(todos, size, TodoService::createdAtCursor);
+    }
+
+    /**
+     * 할 일 작성자 닉네임 커서 페이징 검색
+     *
+     * @param cursor 이전 페이지의 nextCursor (비어 있으면 첫 페이지)
+     * @param size 한 페이지에 데이터 수
+     * @param nickname 닉네임 검색
+     * @return 커서 페이징된 할 일 목록
+     */
+    public CursorResponse<TodoSearchResponse> searchTodoByNickname(String cursor, int size, String nickname) {
+        validateCursorSize(size);
+
+        List<TodoSearchResponse> todos = todoRepository.findByNicknameContainsAfter(nickname, KeysetCursor.decode(cursor), size + 1);
+        return CursorResponse.of(todos, size, TodoService::createdAtCursor);
+    }
+
+    private static TotalMode totalMode(String total, String defaultTotal) {
+        return TotalMode.of(total == null ? defaultTotal : total);
+    }
+
+    /**
+     * 내가 작성했거나 담당자로 등록된 할 일 커서 페이징 조회
+     * (수정일, id) 내림차순
+     *
+     * @param authUser 로그인 유저
+     * @param role 조회 기준 (owner, manager)
+     * @param cursor 이전 페이지의 nextCursor (비어 있으면 첫 페이지)
+     * @param size 한 페이지에 데이터 수
+     * @return 커서 페이징된 할 일 목록
+     */
+    public CursorResponse<TodoSearchResponse> getMyTodos(AuthUser authUser, String role, String cursor, int size) {
+        validateCursorSize(size);
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        List<TodoSearchResponse> todos = switch (TodoMemberRole.of(role)) {
+            case OWNER -> todoRepository.findByOwnerAfter(authUser.getId(), keysetCursor, size + 1);
+            case MANAGER -> todoRepository.findByManagerAfter(authUser.getId(), keysetCursor, size + 1);
+        };
+        return CursorResponse.of(todos, size, todo -> new KeysetCursor(todo.getModifiedAt(), todo.getId()));
+    }
+
+    private static KeysetCursor createdAtCursor(TodoSearchResponse todo) {
+        return new KeysetCursor(todo.getCreatedAt(), todo.getId());
+    }
+
+    private static void validateCursorSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_CURSOR_SIZE + " 이하여야 합니다.");
+        }
     }
 }
@@ -3,19 +3,22 @@ package org.example.expert.domain.user.enums;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 
-import java.util.Arrays;
-
 @Slf4j
 public enum UserRole {
     ADMIN, USER;
 
+    // values()는 호출마다 배열을 복사하므로 한 번만 만들어 둔다.
+    private static final UserRole[] VALUES = values();
+
     public static UserRole of(String role) {
         if (role == null) {
             throw new InvalidRequestException("UserRole이 null입니다.");
         }
-        return Arrays.stream(UserRole.values())
-                .filter(r -> r.name().equalsIgnoreCase(role))
-                .findFirst()
-                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 UserRole"));
+        for (UserRole userRole : VALUES) {
+            if (userRole.name().equalsIgnoreCase(role)) {
+                return userRole;
+            }
+        }
+        throw new InvalidRequestException("유효하지 않은 UserRole");
     }
 }
\ No newline at end of file
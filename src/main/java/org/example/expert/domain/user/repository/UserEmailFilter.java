@@ -0,0 +1,171 @@
+package org.example.expert.domain.user.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.index.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.example.expert.domain.user.entity.QUser.user;
+
+/**
+ * 가입된 이메일 Bloom filter
+ * 회원가입 시 "확실히 없는" 이메일은 existsByEmail 조회를 건너뛴다. 중복 여부의 최종 판단은 users.email unique 제약이다.
+ * 애플리케이션 시작 시와 주기적으로 전체 이메일을 읽어 다시 만들고(유저 수에 맞춰 크기 조정), 가입 시마다 추가한다.
+ */
+@Slf4j
+@Component
+public class UserEmailFilter {
+
+    private static final int LOAD_CHUNK_SIZE = 5000;
+
+    private final JPAQueryFactory queryFactory;
+    private final long minExpectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    // 재생성 중에 가입한 이메일 (count/이메일 조회 전에 만들어서 그 사이 가입한 이메일도 새 filter에 들어가게 한다)
+    private List<String> addedDuringRebuild;
+    private final Object rebuildLock = new Object();
+
+    private final Counter negatives;
+    private final Counter positives;
+    private final Counter falsePositives;
+    private final Timer rebuildTimer;
+    private volatile long lastRebuiltAt;
+
+    public UserEmailFilter(JPAQueryFactory queryFactory,
+                           MeterRegistry meterRegistry,
+                           @Value("${user.email-filter.expected-insertions:1000000}") long minExpectedInsertions,
+                           @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.queryFactory = queryFactory;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+
+        this.negatives = meterRegistry.counter("user.email_filter.checks", "result", "negative");
+        this.positives = meterRegistry.counter("user.email_filter.checks", "result", "positive");
+        this.falsePositives = meterRegistry.counter("user.email_filter.false_positives");
+        this.rebuildTimer = meterRegistry.timer("user.email_filter.rebuild");
+        Gauge.builder("user.email_filter.false_positive_rate", this, UserEmailFilter::observedFalsePositiveRate)
+                .register(meterRegistry);
+        Gauge.builder("user.email_filter.expected_false_positive_rate", this,
+                        f -> f.filter == null ? 0 : f.filter.expectedFalsePositiveRate())
+                .register(meterRegistry);
+        Gauge.builder("user.email_filter.last_rebuild_age_seconds", this,
+                        f -> f.lastRebuiltAt == 0 ? -1 : (System.currentTimeMillis() - f.lastRebuiltAt) / 1000.0)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    /**
+     * 전체 이메일로 filter 재생성 (삭제된 이메일 정리, 유저 수 증가에 맞춰 크기 조정)
+     */
+    @Scheduled(cron = "${user.email-filter.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            rebuildTimer.record(this::doRebuild);
+        }
+    }
+
+    /**
+     * 가입한 이메일 추가 (롤백되어도 오탐만 늘어날 뿐이므로 커밋 전에 바로 추가해도 된다)
+     */
+    public synchronized void add(String email) {
+        String normalized = normalize(email);
+        BloomFilter current = filter;
+        if (current != null) {
+            current.add(normalized);
+        }
+        if (addedDuringRebuild != null) {
+            addedDuringRebuild.add(normalized);
+        }
+    }
+
+    /**
+     * @return false면 가입되지 않은 이메일 (filter가 아직 없으면 항상 true)
+     */
+    public boolean mightContain(String email) {
+        BloomFilter current = filter;
+        if (current == null) {
+            return true;
+        }
+        boolean result = current.mightContain(normalize(email));
+        (result ? positives : negatives).increment();
+        return result;
+    }
+
+    /**
+     * mightContain이 true였지만 실제로는 없었던 경우 기록
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    private void doRebuild() {
+        synchronized (this) {
+            addedDuringRebuild = new ArrayList<>();
+        }
+
+        long userCount = queryFactory.select(user.count()).from(user).fetchOne();
+        BloomFilter next = new BloomFilter(Math.max(minExpectedInsertions, userCount * 2), falsePositiveRate);
+        try {
+            long lastId = 0;
+            while (true) {
+                List<Tuple> rows = queryFactory.select(user.id, user.email)
+                        .from(user)
+                        .where(user.id.gt(lastId))
+                        .orderBy(user.id.asc())
+                        .limit(LOAD_CHUNK_SIZE)
+                        .fetch();
+
+                for (Tuple row : rows) {
+                    String email = row.get(user.email);
+                    if (email != null) {
+                        next.add(normalize(email));
+                    }
+                }
+                if (rows.size() < LOAD_CHUNK_SIZE) {
+                    break;
+                }
+                lastId = rows.get(rows.size() - 1).get(user.id);
+            }
+
+            synchronized (this) {
+                addedDuringRebuild.forEach(next::add);
+                filter = next;
+            }
+        } finally {
+            synchronized (this) {
+                addedDuringRebuild = null;
+            }
+        }
+        lastRebuiltAt = System.currentTimeMillis();
+        log.info("이메일 filter 생성 완료 - 유저 수: {}", userCount);
+    }
+
+    private double observedFalsePositiveRate() {
+        double absent = falsePositives.count() + negatives.count();
+        return absent == 0 ? 0 : falsePositives.count() / absent;
+    }
+
+    // MySQL 기본 collation이 대소문자를 구분하지 않으므로 소문자로 맞춘다. (구분하는 DB에서는 오탐만 늘어남)
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
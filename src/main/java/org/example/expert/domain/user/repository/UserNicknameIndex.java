@@ -0,0 +1,22 @@
+package org.example.expert.domain.user.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.example.expert.domain.common.index.EntityNgramIndex;
+import org.springframework.stereotype.Component;
+
+import static org.example.expert.domain.user.entity.QUser.user;
+
+/**
+ * 유저 닉네임 trigram 색인
+ * 닉네임 부분 검색을 user id 목록으로 바꿔서 todos.user_id 인덱스로 조회할 수 있게 한다.
+ * 애플리케이션 시작 시 전체 유저를 읽어 만들고, 이후에는 회원가입 시마다 추가한다. (다른 인스턴스에서 가입한 유저는 주기적으로 반영)
+ */
+@Component
+public class UserNicknameIndex extends EntityNgramIndex {
+
+    private static final int GRAM_SIZE = 3;
+
+    public UserNicknameIndex(JPAQueryFactory queryFactory) {
+        super(queryFactory, user, user.id, user.nickname, user.createdAt, GRAM_SIZE);
+    }
+}
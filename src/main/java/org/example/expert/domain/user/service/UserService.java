@@ -8,7 +8,9 @@ import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -17,28 +19,46 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
 
     public UserResponse getUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         return new UserResponse(user.getId(), user.getEmail());
     }
 
-    @Transactional
+    /**
+     * 비밀번호 변경
+     * BCrypt 검증/해시는 트랜잭션 밖에서 하고, 갱신만 짧은 트랜잭션으로 한다. (해시하는 동안 커넥션을 잡지 않도록)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         validateNewPassword(userChangePasswordRequest);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
-        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
+        if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
+            throw new InvalidRequestException("잘못된 비밀번호입니다.");
+        }
+
+        // 기존 비밀번호가 확인되었으므로 새 비밀번호와 문자열로 비교 (BCrypt 검증을 한 번 더 하지 않음)
+        if (userChangePasswordRequest.getNewPassword().equals(userChangePasswordRequest.getOldPassword())) {
             throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
         }
 
-        if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
+        String oldPassword = user.getPassword();
+        String newPassword = passwordEncoder.encode(userChangePasswordRequest.getNewPassword());
+        Boolean changed = transactionTemplate.execute(status -> userRepository.findById(userId)
+                // 검증한 뒤 다른 요청이 비밀번호를 바꿨으면 덮어쓰지 않는다.
+                .filter(current -> current.getPassword().equals(oldPassword))
+                .map(current -> {
+                    current.changePassword(newPassword);
+                    return true;
+                })
+                .orElse(false));
+        if (!Boolean.TRUE.equals(changed)) {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
-
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
     }
 
     private static void validateNewPassword(UserChangePasswordRequest userChangePasswordRequest) {
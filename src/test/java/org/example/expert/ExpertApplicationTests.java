@@ -3,7 +3,11 @@ package org.example.expert;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+        "jwt.secret.key=ZXhwZXJ0LWJlbmNobWFyay1zZWNyZXQta2V5LWZvci1oczI1Ni10ZXN0cyE=",
+        // 홈 디렉터리 대신 임시 디렉터리에 감사 로그 기록
+        "audit.journal.dir=${java.io.tmpdir}/expert-audit/ExpertApplicationTests"
+})
 class ExpertApplicationTests {
 
     @Test
@@ -0,0 +1,129 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.example.expert.config.WeatherClientConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeatherClientTest {
+
+    private static final String FALLBACK = "Unknown";
+
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile long delayMillis = 0;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        byte[] body = ("[{\"date\":\"" + today + "\",\"weather\":\"Sunny\"}]").getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/f-api/weather.json", exchange -> {
+            hits.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, status == 200 ? body.length : -1);
+            if (status == 200) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        server.stop(0);
+    }
+
+    private WeatherClient weatherClient(int failureThreshold) {
+        httpClient = WeatherClientConfig.httpClient(200, 300, 4);
+        RestTemplate restTemplate = new RestTemplateBuilder()
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+        return new WeatherClient(
+                restTemplate,
+                new CircuitBreaker(failureThreshold, 60_000),
+                new SimpleMeterRegistry(),
+                "http://127.0.0.1:" + server.getAddress().getPort(),
+                FALLBACK,
+                0
+        );
+    }
+
+    @Test
+    void 오늘_날씨를_조회하고_같은_날에는_다시_호출하지_않는다() {
+        // given
+        WeatherClient weatherClient = weatherClient(3);
+
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(first).isEqualTo("Sunny");
+        assertThat(second).isEqualTo("Sunny");
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 연속_실패하면_서킷이_열리고_원격_호출_없이_fallback을_반환한다() {
+        // given
+        status = 500;
+        WeatherClient weatherClient = weatherClient(2);
+
+        // when
+        weatherClient.getTodayWeather();
+        weatherClient.getTodayWeather();
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(weather).isEqualTo(FALLBACK);
+        assertThat(hits.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 응답이_read_timeout보다_늦으면_fallback을_반환한다() {
+        // given
+        delayMillis = 1_000;
+        WeatherClient weatherClient = weatherClient(3);
+
+        // when
+        long startedAt = System.currentTimeMillis();
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(weather).isEqualTo(FALLBACK);
+        assertThat(System.currentTimeMillis() - startedAt).isLessThan(1_000);
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.expert.config;
+
+import org.example.expert.config.CompactJwtVerifier.VerifiedToken;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactJwtVerifierTest {
+
+    private byte[] secret;
+    private JwtUtil jwtUtil;
+    private CompactJwtVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(secret));
+        // JwtUtil.verify가 jjwt로 검증하도록 compact verifier는 끈다.
+        ReflectionTestUtils.setField(jwtUtil, "compactVerifierEnabled", false);
+        jwtUtil.init();
+        verifier = new CompactJwtVerifier(secret);
+    }
+
+    @Test
+    void 발급한_토큰을_jjwt와_같은_결과로_검증한다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(7L, "user@example.com", UserRole.ADMIN, "닉네임"));
+
+        // when
+        VerifiedToken verified = verifier.verify(token);
+
+        // then
+        assertThat(verified).isNotNull();
+        assertThat(verified.authUser().getId()).isEqualTo(7L);
+        assertThat(verified.authUser().getEmail()).isEqualTo("user@example.com");
+        assertThat(verified.authUser().getUserRole()).isEqualTo(UserRole.ADMIN);
+        assertThat(verified.authUser().getNickname()).isEqualTo("닉네임");
+        assertThat(verified.expiresAt()).isEqualTo(jwtUtil.verify(token).expiresAt());
+    }
+
+    @Test
+    void 서명이_다르면_401_예외가_발생한다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(7L, "user@example.com", UserRole.USER, "nick"));
+        byte[] otherSecret = secret.clone();
+        otherSecret[0] ^= 1;
+
+        // when & then
+        assertThatThrownBy(() -> new CompactJwtVerifier(otherSecret).verify(token))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void 처리하지_않는_형식의_토큰은_null을_반환한다() {
+        // given
+        String header = Base64.getUrlEncoder().withoutPadding().encodeToString("{\"alg\":\"none\"}".getBytes());
+        String payload = Base64.getUrlEncoder().withoutPadding().encodeToString("{\"sub\":\"1\"}".getBytes());
+
+        // when
+        VerifiedToken verified = verifier.verify(header + "." + payload + ".");
+
+        // then
+        assertThat(verified).isNull();
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordEncoderTest {
+
+    @Test
+    void 해시한_비밀번호를_검증하고_cost가_다르면_재해시가_필요하다() {
+        // given
+        PasswordEncoder passwordEncoder = new PasswordEncoder(new SimpleMeterRegistry(), 4, 1, 10, 5000);
+
+        // when
+        String encoded = passwordEncoder.encode("password");
+
+        // then
+        assertThat(passwordEncoder.matches("password", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("other", encoded)).isFalse();
+        assertThat(passwordEncoder.needsRehash(encoded)).isFalse();
+        assertThat(new PasswordEncoder(new SimpleMeterRegistry(), 5, 1, 10, 5000).needsRehash(encoded)).isTrue();
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    void 스레드와_대기열이_가득_차면_503_예외가_발생한다() throws InterruptedException {
+        // given (스레드 1개 + 대기열 1개를 느린 해시로 채운다)
+        PasswordEncoder passwordEncoder = new PasswordEncoder(new SimpleMeterRegistry(), 15, 1, 1, 60000);
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(passwordEncoder, "executor");
+        for (int i = 0; i < 2; i++) {
+            Thread caller = new Thread(() -> passwordEncoder.encode("password"));
+            caller.setDaemon(true);
+            caller.start();
+        }
+        while (executor.getActiveCount() < 1 || executor.getQueue().size() < 1) {
+            Thread.sleep(10);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> passwordEncoder.matches("password", "$2a$04$invalid"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    void 제한_시간_안에_끝나지_않으면_503_예외가_발생한다() {
+        // given
+        PasswordEncoder passwordEncoder = new PasswordEncoder(new SimpleMeterRegistry(), 15, 1, 1, 1);
+
+        // when & then
+        assertThatThrownBy(() -> passwordEncoder.encode("password"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        passwordEncoder.shutdown();
+    }
+}
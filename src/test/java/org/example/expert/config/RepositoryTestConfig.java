@@ -0,0 +1,16 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.todo.repository.TodoCountCache;
+import org.example.expert.domain.todo.repository.TodoTitleIndex;
+import org.example.expert.domain.user.repository.UserNicknameIndex;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * @DataJpaTest 공통 설정
+ * QTodoRepositoryImpl이 제목/닉네임 색인과 개수 캐시를 주입받으므로 repository slice 테스트에 함께 등록한다.
+ */
+@TestConfiguration
+@Import({QuerydslConfig.class, TodoTitleIndex.class, UserNicknameIndex.class, TodoCountCache.class})
+public class RepositoryTestConfig {
+}
@@ -0,0 +1,51 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SequenceTableInitializerTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:sequence-table;DB_CLOSE_DELAY=-1"));
+        // MySQL에서 Hibernate가 만드는 시퀀스 대체 테이블과 같은 구조
+        jdbcTemplate.execute("create table todos (id bigint primary key)");
+        jdbcTemplate.execute("create table todos_seq (next_val bigint)");
+        jdbcTemplate.execute("create table users (id bigint primary key)");
+        jdbcTemplate.execute("create table users_seq (next_val bigint)");
+        jdbcTemplate.update("insert into todos_seq values (1)");
+        jdbcTemplate.update("insert into users_seq values (1000)");
+        jdbcTemplate.update("insert into todos values (120)");
+        jdbcTemplate.update("insert into users values (10)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop all objects");
+    }
+
+    @Test
+    void 시퀀스_테이블의_next_val을_기존_최대_id_이후로_올린다() {
+        // when
+        new SequenceTableInitializer(jdbcTemplate).initialize();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("select next_val from todos_seq", Long.class)).isEqualTo(170L);
+    }
+
+    @Test
+    void 이미_최대_id보다_큰_next_val은_그대로_둔다() {
+        // when
+        new SequenceTableInitializer(jdbcTemplate).initialize();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("select next_val from users_seq", Long.class)).isEqualTo(1000L);
+    }
+}
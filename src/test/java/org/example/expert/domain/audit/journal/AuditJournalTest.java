@@ -0,0 +1,120 @@
+package org.example.expert.domain.audit.journal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditJournalTest {
+
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void 기록한_레코드를_사전과_함께_다시_읽는다() throws Exception {
+        // given
+        AuditJournal journal = journal(64, 90);
+        long now = System.currentTimeMillis();
+
+        // when
+        journal.append(1L, "GET /admin/users", "UserAdminController.getUsers", now);
+        journal.append(2L, "PATCH /admin/users/{userId}", "UserAdminController.changeUserRole", now + 1);
+        journal.append(1L, "GET /admin/users", "UserAdminController.getUsers", now + 2);
+        journal.stop();
+
+        // then
+        List<AuditRecord> records = new AuditJournalReader(directory).scan(now, now + 3, 100);
+        AuditDictionary dictionary = AuditDictionary.load(directory);
+        assertThat(records).extracting(AuditRecord::userId).containsExactly(1L, 2L, 1L);
+        assertThat(records).extracting(AuditRecord::epochMillis).containsExactly(now, now + 1, now + 2);
+        assertThat(records).extracting(record -> dictionary.valueOf(record.urlId()))
+                .containsExactly("GET /admin/users", "PATCH /admin/users/{userId}", "GET /admin/users");
+        assertThat(records).extracting(record -> dictionary.valueOf(record.methodId()))
+                .containsExactly("UserAdminController.getUsers", "UserAdminController.changeUserRole",
+                        "UserAdminController.getUsers");
+    }
+
+    @Test
+    void segment가_가득_차면_새_segment로_넘어간다() throws Exception {
+        // given (1MB segment = 43690개 레코드)
+        AuditJournal journal = journal(1, 90);
+        long now = System.currentTimeMillis();
+        int count = 50_000;
+
+        // when
+        for (int i = 0; i < count; i++) {
+            journal.append(i, "GET /admin/users", "UserAdminController.getUsers", now + i);
+        }
+        journal.stop();
+
+        // then
+        assertThat(segments()).hasSize(2);
+        List<AuditRecord> records = new AuditJournalReader(directory).scan(0, Long.MAX_VALUE, Integer.MAX_VALUE);
+        assertThat(records).hasSize(count);
+        assertThat(records.get(count - 1).userId()).isEqualTo(count - 1);
+    }
+
+    @Test
+    void 하루가_지나면_새_segment로_넘어가고_보관_기간이_지난_segment를_삭제한다() throws Exception {
+        // given
+        AuditJournal journal = journal(64, 2);
+        long now = System.currentTimeMillis();
+        journal.append(1L, "GET /admin/users", "UserAdminController.getUsers", now - 5 * DAY);
+        journal.append(2L, "GET /admin/users", "UserAdminController.getUsers", now - 3 * DAY);
+        journal.append(3L, "GET /admin/users", "UserAdminController.getUsers", now);
+        journal.stop();
+        assertThat(segments()).hasSize(3);
+
+        // when
+        journal.deleteExpiredSegments();
+
+        // then (두 번째 segment는 다음 segment가 보관 기간 안에 시작하므로 남긴다)
+        assertThat(segments()).hasSize(2);
+        assertThat(new AuditJournalReader(directory).scan(0, Long.MAX_VALUE, 100))
+                .extracting(AuditRecord::userId)
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    void 다른_journal이_사용_중인_디렉터리에는_기록하지_않는다() throws Exception {
+        // given
+        AuditJournal owner = journal(64, 90);
+        AuditJournal other = journal(64, 90);
+        long now = System.currentTimeMillis();
+
+        // when
+        owner.append(1L, "GET /admin/users", "UserAdminController.getUsers", now);
+        other.append(2L, "GET /admin/logs", "LogAdminController.getLogs", now + 1);
+        other.stop();
+        owner.stop();
+
+        // then
+        assertThat(new AuditJournalReader(directory).scan(0, Long.MAX_VALUE, 100))
+                .extracting(AuditRecord::userId)
+                .containsExactly(1L);
+        assertThat(AuditDictionary.load(directory).valueOf(3)).isNull();
+    }
+
+    private AuditJournal journal(int segmentMb, int retentionDays) {
+        AuditJournal journal = new AuditJournal(new SimpleMeterRegistry(), directory.toString(),
+                segmentMb, 1 << 16, 1000, retentionDays);
+        journal.start();
+        return journal;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".seg")).toList();
+        }
+    }
+}
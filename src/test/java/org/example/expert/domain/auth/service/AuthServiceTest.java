@@ -0,0 +1,147 @@
+package org.example.expert.domain.auth.service;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserEmailFilter;
+import org.example.expert.domain.user.repository.UserNicknameIndex;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTest {
+
+    private UserRepository userRepository;
+    private TransactionTemplate transactionTemplate;
+    private PasswordEncoder passwordEncoder;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        doCallRealMethod().when(transactionTemplate).executeWithoutResult(any());
+
+        // 현재 설정 cost는 5
+        passwordEncoder = new PasswordEncoder(new SimpleMeterRegistry(), 5, 1, 10, 5000);
+        authService = new AuthService(userRepository, passwordEncoder, mock(JwtUtil.class),
+                mock(UserNicknameIndex.class), mock(UserEmailFilter.class), transactionTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    void 예전_cost로_해시된_비밀번호는_로그인할_때_새_cost로_다시_해시한다() {
+        // given
+        User user = user(BCrypt.withDefaults().hashToString(4, "password".toCharArray()));
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        // when
+        authService.signin(new SigninRequest("user@test.com", "password"));
+
+        // then
+        assertThat(user.getPassword()).startsWith("$2a$05$");
+        assertThat(passwordEncoder.matches("password", user.getPassword())).isTrue();
+    }
+
+    @Test
+    void 현재_cost로_해시된_비밀번호는_다시_해시하지_않는다() {
+        // given
+        String encoded = passwordEncoder.encode("password");
+        User user = user(encoded);
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
+
+        // when
+        authService.signin(new SigninRequest("user@test.com", "password"));
+
+        // then
+        assertThat(user.getPassword()).isEqualTo(encoded);
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    @Test
+    void 재해시하는_사이_비밀번호가_바뀌었으면_덮어쓰지_않는다() {
+        // given
+        User user = user(BCrypt.withDefaults().hashToString(4, "password".toCharArray()));
+        User changed = user(passwordEncoder.encode("changed"));
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(changed));
+        String changedPassword = changed.getPassword();
+
+        // when
+        authService.signin(new SigninRequest("user@test.com", "password"));
+
+        // then
+        assertThat(changed.getPassword()).isEqualTo(changedPassword);
+    }
+
+    @Test
+    void 비밀번호가_틀리면_재해시하지_않고_예외가_발생한다() {
+        // given
+        User user = user(BCrypt.withDefaults().hashToString(4, "password".toCharArray()));
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
+
+        // when & then
+        assertThatThrownBy(() -> authService.signin(new SigninRequest("user@test.com", "wrong")))
+                .isInstanceOf(AuthException.class);
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    @Test
+    void 가입할_때_이메일_unique_제약_위반이면_중복_이메일_예외가_발생한다() {
+        // given
+        when(userRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(userRepository.existsByEmail("user@test.com")).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> authService.signup(new SignupRequest("user@test.com", "password", "USER", "nickname")))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("이미 존재하는 이메일입니다.");
+    }
+
+    @Test
+    void 가입할_때_다른_제약_위반이면_그대로_던진다() {
+        // given
+        when(userRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("not null"));
+        when(userRepository.existsByEmail("user@test.com")).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> authService.signup(new SignupRequest("user@test.com", "password", "USER", "nickname")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private static User user(String password) {
+        User user = new User("user@test.com", password, UserRole.USER, "nickname");
+        ReflectionTestUtils.setField(user, "id", 1L);
+        return user;
+    }
+}
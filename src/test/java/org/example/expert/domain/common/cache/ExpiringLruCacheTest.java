@@ -0,0 +1,78 @@
+package org.example.expert.domain.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringLruCacheTest {
+
+    @Test
+    void 만료된_항목은_조회되지_않는다() {
+        // given
+        ExpiringLruCache<String, Long> cache = new ExpiringLruCache<>(10);
+        cache.put("a", 1L, 1000);
+
+        // when & then
+        assertThat(cache.get("a", 999)).isEqualTo(1L);
+        assertThat(cache.get("a", 1000)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void 가득_차면_가장_오래_사용되지_않은_항목만_제거한다() {
+        // given
+        ExpiringLruCache<Integer, String> cache = new ExpiringLruCache<>(1);
+        cache.put(1, "one", Long.MAX_VALUE);
+
+        // when
+        cache.put(2, "two", Long.MAX_VALUE);
+
+        // then
+        assertThat(cache.get(1, 0)).isNull();
+        assertThat(cache.get(2, 0)).isEqualTo("two");
+    }
+
+    @Test
+    void 최근에_조회한_항목은_남는다() {
+        // given (segment 16개, segment당 2개 / 0, 16, 32는 같은 segment)
+        ExpiringLruCache<Integer, String> cache = new ExpiringLruCache<>(32);
+        cache.put(0, "zero", Long.MAX_VALUE);
+        cache.put(16, "sixteen", Long.MAX_VALUE);
+        cache.get(0, 0);
+
+        // when
+        cache.put(32, "thirty-two", Long.MAX_VALUE);
+
+        // then
+        assertThat(cache.get(0, 0)).isEqualTo("zero");
+        assertThat(cache.get(16, 0)).isNull();
+        assertThat(cache.get(32, 0)).isEqualTo("thirty-two");
+    }
+
+    @Test
+    void 가득_차도_전체를_비우지_않는다() {
+        // given
+        ExpiringLruCache<Integer, Integer> cache = new ExpiringLruCache<>(1000);
+
+        // when
+        for (int i = 0; i < 5000; i++) {
+            cache.put(i, i, Long.MAX_VALUE);
+        }
+
+        // then
+        assertThat(cache.size()).isBetween(900, 1000);
+        assertThat(cache.get(4999, 0)).isEqualTo(4999);
+    }
+
+    @Test
+    void 최대_크기가_0이면_저장하지_않는다() {
+        // given
+        ExpiringLruCache<String, Long> cache = new ExpiringLruCache<>(0);
+
+        // when
+        cache.put("a", 1L, Long.MAX_VALUE);
+
+        // then
+        assertThat(cache.get("a", 0)).isNull();
+    }
+}
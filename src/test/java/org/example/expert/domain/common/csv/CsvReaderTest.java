@@ -0,0 +1,102 @@
+package org.example.expert.domain.common.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void 큰따옴표로_감싼_필드의_쉼표와_줄바꿈을_그대로_읽는다() throws IOException {
+        // given
+        String csv = "title,contents\n\"a,b\",\"line1\nline2\"\n";
+
+        // when
+        List<List<String>> rows = readAll(csv, 100);
+
+        // then
+        assertThat(rows).containsExactly(
+                List.of("title", "contents"),
+                List.of("a,b", "line1\nline2"));
+    }
+
+    @Test
+    void 이스케이프된_큰따옴표는_하나로_읽는다() throws IOException {
+        // given
+        String csv = "\"say \"\"hi\"\"\",\"\"\"\"\n";
+
+        // when
+        List<List<String>> rows = readAll(csv, 100);
+
+        // then
+        assertThat(rows).containsExactly(List.of("say \"hi\"", "\""));
+    }
+
+    @Test
+    void CRLF와_마지막_줄바꿈이_없는_행을_읽는다() throws IOException {
+        // given
+        String csv = "a,b\r\nc,\r\n,d";
+
+        // when
+        CsvReader reader = new CsvReader(new StringReader(csv), 100);
+        List<List<String>> rows = new ArrayList<>();
+        List<String> row;
+        while ((row = reader.readRow()) != null) {
+            rows.add(row);
+        }
+
+        // then
+        assertThat(rows).containsExactly(List.of("a", "b"), List.of("c", ""), List.of("", "d"));
+        assertThat(reader.getLineNumber()).isEqualTo(3);
+    }
+
+    @Test
+    void 닫히지_않은_큰따옴표는_예외가_발생한다() {
+        // given
+        String csv = "a,\"b\nc\n";
+
+        // when & then
+        assertThatThrownBy(() -> readAll(csv, 100))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("닫히지 않은 큰따옴표");
+    }
+
+    @Test
+    void 닫는_큰따옴표_뒤에_문자가_있으면_예외가_발생한다() {
+        // given
+        String csv = "\"a\"b,c\n";
+
+        // when & then
+        assertThatThrownBy(() -> readAll(csv, 100))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("잘못된 CSV 형식");
+    }
+
+    @Test
+    void 필드가_최대_길이를_넘으면_예외가_발생한다() throws IOException {
+        // given
+        String csv = "abcd,\"abcde\"\n";
+
+        // when & then
+        assertThat(readAll("abcd\n", 4)).containsExactly(List.of("abcd"));
+        assertThatThrownBy(() -> readAll(csv, 4))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("필드 길이");
+    }
+
+    private static List<List<String>> readAll(String csv, int maxFieldLength) throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(csv), maxFieldLength);
+        List<List<String>> rows = new ArrayList<>();
+        List<String> row;
+        while ((row = reader.readRow()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
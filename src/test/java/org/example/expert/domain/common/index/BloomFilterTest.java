@@ -0,0 +1,48 @@
+package org.example.expert.domain.common.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void 추가한_값은_항상_포함된다고_판단한다() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // when
+        IntStream.range(0, 10_000).forEach(i -> filter.add("user" + i + "@test.com"));
+
+        // then
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("user" + i + "@test.com"))).isTrue();
+    }
+
+    @Test
+    void 예상_원소_수만큼_추가하면_오탐률이_목표_근처다() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.add("user" + i + "@test.com"));
+
+        // when
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("other" + i + "@test.com"))
+                .count();
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.02);
+    }
+
+    @Test
+    void 비어_있으면_아무것도_포함하지_않는다() {
+        // given
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        // when & then
+        assertThat(filter.mightContain("user@test.com")).isFalse();
+        assertThat(filter.expectedFalsePositiveRate()).isZero();
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.expert.domain.common.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+
+    @Test
+    void 검색어를_포함하는_문서_id를_내림차순으로_반환한다() {
+        // given
+        NgramIndex index = new NgramIndex(2);
+        index.add(1L, "Spring Boot");
+        index.add(3L, "spring batch");
+        index.add(2L, "Java");
+
+        // when & then
+        assertThat(index.search("SPRING")).containsExactly(3L, 1L);
+        assertThat(index.search("boot")).containsExactly(1L);
+        assertThat(index.search("python")).isEmpty();
+    }
+
+    @Test
+    void 모든_n_gram이_있어도_원문에_연속으로_포함되지_않으면_제외한다() {
+        // given
+        NgramIndex index = new NgramIndex(2);
+        index.add(1L, "abxbc");
+
+        // when & then
+        assertThat(index.search("abc")).isEmpty();
+        assertThat(index.search("xbc")).containsExactly(1L);
+    }
+
+    @Test
+    void n보다_짧은_검색어는_원문을_순회해서_찾는다() {
+        // given
+        NgramIndex index = new NgramIndex(3);
+        index.add(1L, "할 일");
+        index.add(2L, "일정");
+
+        // when & then
+        assertThat(index.search("일")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 이미_색인된_id는_무시한다() {
+        // given
+        NgramIndex index = new NgramIndex(2);
+        index.add(1L, "첫 제목");
+
+        // when
+        index.add(1L, "다른 제목");
+
+        // then
+        assertThat(index.search("첫 제")).containsExactly(1L);
+        assertThat(index.search("다른")).isEmpty();
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.expert.domain.common.service;
+
+import org.example.expert.config.RepositoryTestConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({RepositoryTestConfig.class, SchedulerLockService.class})
+// 잠금은 별도 트랜잭션으로 커밋되므로 테스트 트랜잭션을 쓰지 않는다.
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SchedulerLockServiceTest {
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    @Test
+    void 잠금이_유지되는_동안에는_다시_얻을_수_없다() {
+        // when
+        boolean first = schedulerLockService.tryLock("held", Duration.ofHours(1));
+        boolean second = schedulerLockService.tryLock("held", Duration.ofHours(1));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+    }
+
+    @Test
+    void 만료된_잠금은_다시_얻을_수_있다() {
+        // given
+        schedulerLockService.tryLock("expired", Duration.ZERO);
+
+        // when
+        boolean acquired = schedulerLockService.tryLock("expired", Duration.ofHours(1));
+
+        // then
+        assertThat(acquired).isTrue();
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.expert.domain.manager.repository;
+
+import org.example.expert.config.RepositoryTestConfig;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.manager.entity.Log;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(RepositoryTestConfig.class)
+class LogRepositoryTest {
+
+    @Autowired
+    private LogRepository logRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void 발생일_구간의_로그를_발생_시각과_id_내림차순으로_커서_페이징한다() {
+        // given (같은 시각의 로그 포함, 이틀에 걸쳐)
+        LocalDateTime day1 = LocalDateTime.of(2026, 1, 1, 23, 59);
+        LocalDateTime day2 = LocalDateTime.of(2026, 1, 2, 0, 0);
+        List<Long> expected = new ArrayList<>();
+        for (LocalDateTime createdAt : List.of(day1, day1, day2, day2, day2)) {
+            expected.add(0, em.persist(new Log(Log.ACTION_SUCCESS, "message", createdAt)).getId());
+        }
+        em.persist(new Log(Log.ACTION_SUCCESS, "out of range", day2.plusDays(1)));
+        em.flush();
+
+        // when
+        List<Long> actual = new ArrayList<>();
+        KeysetCursor cursor = null;
+        while (true) {
+            List<Log> page = logRepository.findByLogDateBetweenAfter(
+                    LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 2), null, cursor, 2);
+            page.forEach(log -> actual.add(log.getId()));
+            if (page.size() < 2) {
+                break;
+            }
+            Log last = page.get(page.size() - 1);
+            cursor = new KeysetCursor(last.getCreatedAt(), last.getId());
+        }
+
+        // then
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.expert.domain.manager.repository;
+
+import org.example.expert.config.RepositoryTestConfig;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(RepositoryTestConfig.class)
+class ManagerRepositoryTest {
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void 같은_유저를_같은_할_일에_두_번_등록하면_unique_제약_위반이다() {
+        // given
+        User owner = em.persist(new User("owner@test.com", "password", UserRole.USER, "owner"));
+        User managerUser = em.persist(new User("manager@test.com", "password", UserRole.USER, "manager"));
+        Todo todo = em.persist(new Todo("title", "contents", "Sunny", owner));
+        managerRepository.saveAndFlush(new Manager(managerUser, todo));
+
+        // when & then
+        assertThat(managerRepository.existsByUserIdAndTodoId(managerUser.getId(), todo.getId())).isTrue();
+        assertThatThrownBy(() -> managerRepository.saveAndFlush(new Manager(managerUser, todo)))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .cause()
+                .isInstanceOfSatisfying(ConstraintViolationException.class, cause ->
+                        assertThat(cause.getConstraintName()).containsIgnoringCase(Manager.UNIQUE_USER_TODO));
+    }
+}
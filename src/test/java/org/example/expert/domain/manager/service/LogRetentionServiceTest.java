@@ -0,0 +1,80 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.config.RepositoryTestConfig;
+import org.example.expert.domain.manager.entity.Log;
+import org.example.expert.domain.manager.entity.LogDailyRollup;
+import org.example.expert.domain.manager.repository.LogDailyRollupRepository;
+import org.example.expert.domain.manager.repository.LogRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(RepositoryTestConfig.class)
+class LogRetentionServiceTest {
+
+    @Autowired
+    private LogRepository logRepository;
+
+    @Autowired
+    private LogDailyRollupRepository logDailyRollupRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void 보관_기간이_지난_로그를_나눠서_삭제한다() {
+        // given
+        LocalDateTime old = LocalDateTime.now().minusDays(100);
+        for (int i = 0; i < 7; i++) {
+            em.persist(new Log(Log.ACTION_SUCCESS, "old" + i, old.plusSeconds(i)));
+        }
+        Log recent = em.persist(new Log(Log.ACTION_SUCCESS, "recent", LocalDateTime.now()));
+        em.flush();
+        LogRetentionService service = new LogRetentionService(logRepository, logDailyRollupRepository, transactionManager, 90, 3);
+
+        // when
+        service.purgeExpired();
+        em.clear();
+
+        // then
+        assertThat(logRepository.findAll()).extracting(Log::getId).containsExactly(recent.getId());
+    }
+
+    @Test
+    void 발생일이_없는_예전_로그는_created_at_날짜로_채운다() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            Log logEntry = em.persist(new Log(i < 2 ? Log.ACTION_SUCCESS : Log.ACTION_FAILURE, "legacy" + i, LocalDateTime.of(2024, 1, 2, 3, 4)));
+            em.flush();
+            em.getEntityManager().createNativeQuery("UPDATE log SET log_date = NULL WHERE id = :id")
+                    .setParameter("id", logEntry.getId())
+                    .executeUpdate();
+        }
+        em.clear();
+        LogRetentionService service = new LogRetentionService(logRepository, logDailyRollupRepository, transactionManager, 90, 2);
+
+        // when
+        service.backfillLogDates();
+        em.clear();
+
+        // then
+        assertThat(logRepository.findMinIdWithoutLogDate()).isNull();
+        assertThat(logRepository.findAll()).extracting(Log::getLogDate)
+                .containsOnly(LocalDate.of(2024, 1, 2));
+        LogDailyRollup rollup = logDailyRollupRepository.findById(LocalDate.of(2024, 1, 2)).orElseThrow();
+        assertThat(rollup.getSuccessCount()).isEqualTo(2);
+        assertThat(rollup.getFailureCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,134 @@
+package org.example.expert.domain.manager.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.manager.entity.Log;
+import org.example.expert.domain.manager.enums.LogOverflowPolicy;
+import org.example.expert.domain.manager.repository.LogDailyRollupRepository;
+import org.example.expert.domain.manager.repository.LogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LogServiceTest {
+
+    private LogRepository logRepository;
+    private LogDailyRollupRepository logDailyRollupRepository;
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private final List<String> saved = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        logRepository = mock(LogRepository.class);
+        logDailyRollupRepository = mock(LogDailyRollupRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(logRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            List<Log> logs = (List<Log>) invocation.getArgument(0);
+            if (logs.stream().anyMatch(log -> "bad".equals(log.getMessage()))) {
+                throw new DataIntegrityViolationException("저장 실패");
+            }
+            synchronized (saved) {
+                logs.forEach(log -> saved.add(log.getMessage()));
+            }
+            return logs;
+        });
+    }
+
+    @Test
+    void 대기열이_가득_차면_DROP_NEWEST는_새_로그를_버린다() throws InterruptedException {
+        // given
+        LogService logService = logService(2, LogOverflowPolicy.DROP_NEWEST);
+
+        // when
+        saveLogs(logService, "a", "b", "c");
+        logService.stop();
+
+        // then
+        assertThat(saved).containsExactly("a", "b");
+        assertThat(meterRegistry.counter("log.writer.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 대기열이_가득_차면_DROP_OLDEST는_가장_오래된_로그를_버린다() throws InterruptedException {
+        // given
+        LogService logService = logService(2, LogOverflowPolicy.DROP_OLDEST);
+
+        // when
+        saveLogs(logService, "a", "b", "c");
+        logService.stop();
+
+        // then
+        assertThat(saved).containsExactly("b", "c");
+        assertThat(meterRegistry.counter("log.writer.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 종료할_때_대기열에_남은_로그를_모두_저장한다() throws InterruptedException {
+        // given
+        LogService logService = logService(10_000, LogOverflowPolicy.DROP_OLDEST);
+        List<String> messages = new ArrayList<>();
+        for (int i = 0; i < 1_234; i++) {
+            messages.add("log" + i);
+        }
+
+        // when
+        saveLogs(logService, messages.toArray(String[]::new));
+        logService.stop();
+
+        // then
+        assertThat(saved).containsExactlyElementsOf(messages);
+        assertThat(meterRegistry.counter("log.writer.failed").count()).isZero();
+    }
+
+    @Test
+    void batch_저장이_실패하면_한_건씩_다시_저장해서_실패한_로그만_버린다() throws InterruptedException {
+        // given
+        LogService logService = logService(10_000, LogOverflowPolicy.DROP_OLDEST);
+
+        // when
+        saveLogs(logService, "a", "bad", "c");
+        logService.stop();
+
+        // then
+        assertThat(saved).containsExactly("a", "c");
+        assertThat(meterRegistry.counter("log.writer.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 긴_메시지는_컬럼_길이로_잘라서_저장한다() {
+        // when
+        Log log = new Log(Log.ACTION_FAILURE, "사유: " + "x".repeat(1000));
+
+        // then
+        assertThat(log.getMessage()).hasSize(255).startsWith("사유: ");
+    }
+
+    // flush 주기를 길게 잡아 stop 전까지는 writer가 저장하지 않게 한다.
+    private LogService logService(int capacity, LogOverflowPolicy overflowPolicy) {
+        LogService logService = new LogService(logRepository, logDailyRollupRepository, transactionManager,
+                meterRegistry, capacity, 100_000, 60_000, overflowPolicy);
+        logService.start();
+        return logService;
+    }
+
+    private static void saveLogs(LogService logService, String... messages) {
+        for (String message : messages) {
+            logService.saveLog(Log.ACTION_SUCCESS, message);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBatchSaveResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ManagerServiceTest {
+
+    private static final long TODO_ID = 10L;
+
+    private final AuthUser authUser = new AuthUser(1L, "owner@test.com", UserRole.USER, "owner");
+
+    private ManagerRepository managerRepository;
+    private UserRepository userRepository;
+    private TodoRepository todoRepository;
+    private ManagerService managerService;
+    private User managerUser;
+
+    @BeforeEach
+    void setUp() {
+        managerRepository = mock(ManagerRepository.class);
+        userRepository = mock(UserRepository.class);
+        todoRepository = mock(TodoRepository.class);
+        managerService = new ManagerService(managerRepository, userRepository, todoRepository, mock(LogService.class));
+
+        Todo todo = new Todo("title", "contents", "Sunny", User.fromAuthUser(authUser));
+        ReflectionTestUtils.setField(todo, "id", TODO_ID);
+        managerUser = new User("manager@test.com", "password", UserRole.USER, "manager");
+        ReflectionTestUtils.setField(managerUser, "id", 2L);
+        when(todoRepository.findById(TODO_ID)).thenReturn(Optional.of(todo));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(managerUser));
+    }
+
+    @Test
+    void 담당자를_등록하면_담당자_수를_1_늘린다() {
+        // given
+        when(managerRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        managerService.saveManager(authUser, TODO_ID, new ManagerSaveRequest(2L));
+
+        // then
+        verify(todoRepository).updateManagerCount(TODO_ID, 1);
+    }
+
+    @Test
+    void 이미_등록된_담당자면_예외가_발생하고_담당자_수를_바꾸지_않는다() {
+        // given
+        when(managerRepository.existsByUserIdAndTodoId(2L, TODO_ID)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> managerService.saveManager(authUser, TODO_ID, new ManagerSaveRequest(2L)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("이미 등록된 담당자입니다.");
+        verify(managerRepository, never()).saveAndFlush(any());
+        verify(todoRepository, never()).updateManagerCount(anyLong(), anyInt());
+    }
+
+    @Test
+    void 동시에_등록되어_unique_제약을_위반하면_예외가_발생하고_담당자_수를_바꾸지_않는다() {
+        // given
+        when(managerRepository.saveAndFlush(any())).thenThrow(violation("PUBLIC.UK_MANAGERS_USER_ID_TODO_ID_INDEX_5"));
+
+        // when & then
+        assertThatThrownBy(() -> managerService.saveManager(authUser, TODO_ID, new ManagerSaveRequest(2L)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("이미 등록된 담당자입니다.");
+        verify(todoRepository, never()).updateManagerCount(anyLong(), anyInt());
+    }
+
+    @Test
+    void 다른_제약_위반은_그대로_던진다() {
+        // given
+        when(managerRepository.saveAndFlush(any())).thenThrow(violation("FK_MANAGERS_TODO_ID"));
+
+        // when & then
+        assertThatThrownBy(() -> managerService.saveManager(authUser, TODO_ID, new ManagerSaveRequest(2L)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void 일괄_등록은_중복_id를_한_번만_등록하고_이미_담당자인_유저는_건너뛴다() {
+        // given
+        User another = new User("another@test.com", "password", UserRole.USER, "another");
+        ReflectionTestUtils.setField(another, "id", 3L);
+        when(userRepository.findAllById(any())).thenReturn(List.of(managerUser, another));
+        when(managerRepository.findUserIdsByTodoIdAndUserIdIn(eq(TODO_ID), any())).thenReturn(List.of(2L));
+        when(managerRepository.saveAllAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        ManagerBatchSaveResponse response = managerService.saveManagers(authUser, TODO_ID,
+                new ManagerBatchSaveRequest(List.of(3L, 2L, 3L)));
+
+        // then
+        assertThat(response.getManagers()).extracting(manager -> manager.getUser().getId()).containsExactly(3L);
+        assertThat(response.getSkippedUserIds()).containsExactly(2L);
+        verify(todoRepository).updateManagerCount(TODO_ID, 1);
+    }
+
+    @Test
+    void 일괄_등록할_유저가_없으면_없는_id를_알려준다() {
+        // given
+        when(userRepository.findAllById(any())).thenReturn(List.of(managerUser));
+
+        // when & then
+        assertThatThrownBy(() -> managerService.saveManagers(authUser, TODO_ID,
+                new ManagerBatchSaveRequest(List.of(2L, 4L, 5L))))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageEndingWith("[4, 5]");
+        verify(managerRepository, never()).saveAllAndFlush(any());
+    }
+
+    @Test
+    void 일괄_등록_중_다른_요청이_먼저_등록하면_예외가_발생하고_담당자_수를_바꾸지_않는다() {
+        // given
+        when(userRepository.findAllById(any())).thenReturn(List.of(managerUser));
+        when(managerRepository.findUserIdsByTodoIdAndUserIdIn(eq(TODO_ID), any())).thenReturn(List.of());
+        when(managerRepository.saveAllAndFlush(any())).thenThrow(violation("uk_managers_user_id_todo_id"));
+
+        // when & then
+        assertThatThrownBy(() -> managerService.saveManagers(authUser, TODO_ID,
+                new ManagerBatchSaveRequest(List.of(2L))))
+                .isInstanceOf(InvalidRequestException.class);
+        verify(todoRepository, never()).updateManagerCount(anyLong(), anyInt());
+    }
+
+    private static DataIntegrityViolationException violation(String constraintName) {
+        return new DataIntegrityViolationException("constraint violation",
+                new ConstraintViolationException("constraint violation", new SQLException(), constraintName));
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.domain.todo.service.TodoCountRepairService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ManagerUniqueConstraintInitializerTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TodoCountRepairService todoCountRepairService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:manager-constraint;DB_CLOSE_DELAY=-1"));
+        todoCountRepairService = mock(TodoCountRepairService.class);
+        // 제약 없이 만들어진 기존 테이블
+        jdbcTemplate.execute("create table managers (id bigint primary key, user_id bigint not null, todo_id bigint not null)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop all objects");
+    }
+
+    @Test
+    void 중복_담당자를_지우고_unique_제약을_추가한다() {
+        // given
+        jdbcTemplate.update("insert into managers values (1, 10, 100), (2, 10, 100), (3, 20, 100), (4, 10, 100)");
+
+        // when
+        new ManagerUniqueConstraintInitializer(jdbcTemplate, todoCountRepairService).initialize();
+
+        // then
+        assertThat(jdbcTemplate.queryForList("select id from managers order by id", Long.class)).containsExactly(1L, 3L);
+        assertThatThrownBy(() -> jdbcTemplate.update("insert into managers values (5, 20, 100)"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        verify(todoCountRepairService).repairAll();
+    }
+
+    @Test
+    void 이미_제약이_있으면_아무것도_하지_않는다() {
+        // given
+        jdbcTemplate.execute("alter table managers add constraint uk_managers_user_id_todo_id unique (user_id, todo_id)");
+        jdbcTemplate.update("insert into managers values (1, 10, 100)");
+
+        // when
+        new ManagerUniqueConstraintInitializer(jdbcTemplate, todoCountRepairService).initialize();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("select count(*) from managers", Long.class)).isEqualTo(1L);
+        verify(todoCountRepairService, never()).repairAll();
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.expert.domain.todo.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoResponseCacheTest {
+
+    private TodoResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TodoResponseCache(new ObjectMapper().findAndRegisterModules(), 1, 512, 64, 1024);
+    }
+
+    @Test
+    void 조회_도중_다른_할_일이_무효화되어도_응답을_저장한다() throws IOException {
+        // given
+        long stamp = cache.stamp(1L);
+
+        // when
+        cache.evict(2L);
+        cache.put(response(1L, 10L), stamp);
+
+        // then
+        assertThat(cache.writeTo(1L, new MockHttpServletResponse())).isTrue();
+    }
+
+    @Test
+    void 조회_도중_같은_할_일이_무효화되면_응답을_저장하지_않는다() throws IOException {
+        // given
+        long stamp = cache.stamp(1L);
+
+        // when
+        cache.evict(1L);
+        cache.put(response(1L, 10L), stamp);
+
+        // then
+        assertThat(cache.writeTo(1L, new MockHttpServletResponse())).isFalse();
+    }
+
+    @Test
+    void 작성자가_바뀌면_작성자의_할_일_응답을_모두_비운다() throws IOException {
+        // given
+        cache.put(response(1L, 10L), cache.stamp(1L));
+        cache.put(response(2L, 10L), cache.stamp(2L));
+        cache.put(response(3L, 20L), cache.stamp(3L));
+
+        // when
+        cache.evictByUser(10L);
+
+        // then
+        assertThat(cache.writeTo(1L, new MockHttpServletResponse())).isFalse();
+        assertThat(cache.writeTo(2L, new MockHttpServletResponse())).isFalse();
+        assertThat(cache.writeTo(3L, new MockHttpServletResponse())).isTrue();
+    }
+
+    private static TodoResponse response(long todoId, long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TodoResponse(todoId, "title", "contents", "Sunny",
+                new UserResponse(userId, "user@test.com"), now, now);
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.RepositoryTestConfig;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({RepositoryTestConfig.class, PersistenceConfig.class})
+class TodoMemberCursorSearchTest {
+
+    private static final int TODO_COUNT = 5;
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private User me;
+    private final List<Long> ownedIds = new ArrayList<>();
+    private final List<Long> managedIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        me = em.persist(new User("me@test.com", "password", UserRole.USER, "me"));
+        User other = em.persist(new User("other@test.com", "password", UserRole.USER, "other"));
+
+        List<Todo> owned = new ArrayList<>();
+        List<Todo> managed = new ArrayList<>();
+        for (int i = 0; i < TODO_COUNT; i++) {
+            owned.add(em.persist(new Todo("내 할 일 " + i, "contents", "Sunny", me)));
+            Todo todo = em.persist(new Todo("담당 할 일 " + i, "contents", "Sunny", other));
+            em.persist(new Manager(me, todo));
+            managed.add(todo);
+        }
+        // 다른 유저의 할 일 (조회되면 안 됨)
+        em.persist(new Todo("남의 할 일", "contents", "Sunny", other));
+        em.flush();
+
+        // id 순서와 수정일 순서가 다르게 만든다. (id가 클수록 오래된 데이터, 0과 1은 수정일이 같음)
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < TODO_COUNT; i++) {
+            for (Todo todo : List.of(owned.get(i), managed.get(i))) {
+                em.getEntityManager()
+                        .createNativeQuery("UPDATE todos SET modified_at = ? WHERE id = ?")
+                        .setParameter(1, base.minusHours(Math.max(i, 1)))
+                        .setParameter(2, todo.getId())
+                        .executeUpdate();
+            }
+        }
+        em.clear();
+
+        // (수정일, id) 내림차순
+        for (List<Todo> todos : List.of(owned, managed)) {
+            List<Long> expected = todos == owned ? ownedIds : managedIds;
+            expected.add(todos.get(1).getId());
+            expected.add(todos.get(0).getId());
+            for (int i = 2; i < TODO_COUNT; i++) {
+                expected.add(todos.get(i).getId());
+            }
+        }
+    }
+
+    @Test
+    void 작성한_할_일을_수정일과_id_내림차순으로_커서_페이징한다() {
+        // when
+        List<Long> ids = readAllPages((cursor, limit) -> todoRepository.findByOwnerAfter(me.getId(), cursor, limit));
+
+        // then
+        assertThat(ids).containsExactlyElementsOf(ownedIds);
+    }
+
+    @Test
+    void 담당한_할_일을_수정일과_id_내림차순으로_커서_페이징한다() {
+        // when
+        List<Long> ids = readAllPages((cursor, limit) -> todoRepository.findByManagerAfter(me.getId(), cursor, limit));
+
+        // then (작성자는 자기 할 일의 담당자로도 등록되어 있으므로 작성한 할 일도 포함)
+        List<Long> expected = new ArrayList<>(managedIds);
+        expected.addAll(ownedIds);
+        assertThat(ids).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(ids).doesNotHaveDuplicates();
+        assertThat(ids.stream().filter(managedIds::contains).toList()).containsExactlyElementsOf(managedIds);
+    }
+
+    private List<Long> readAllPages(BiFunction<KeysetCursor, Integer, List<TodoSearchResponse>> query) {
+        List<Long> ids = new ArrayList<>();
+        KeysetCursor cursor = null;
+        while (true) {
+            List<TodoSearchResponse> page = query.apply(cursor, PAGE_SIZE);
+            page.forEach(todo -> ids.add(todo.getId()));
+            if (page.size() < PAGE_SIZE) {
+                return ids;
+            }
+            TodoSearchResponse last = page.get(page.size() - 1);
+            cursor = new KeysetCursor(last.getModifiedAt(), last.getId());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.RepositoryTestConfig;
+import org.example.expert.domain.common.enums.TotalMode;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoSortKey;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({RepositoryTestConfig.class, PersistenceConfig.class})
+class TodoRepositoryQueryCountTest {
+
+    private static final int TODO_COUNT = 5;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // 작성자가 모두 다른 todo를 저장해서 user 지연 로딩이 있으면 쿼리 수가 늘어나도록 한다.
+        for (int i = 0; i < TODO_COUNT; i++) {
+            User user = em.persist(new User("user" + i + "@test.com", "password", UserRole.USER, "nickname" + i));
+            em.persist(new Todo("title" + i, "contents" + i, "Sunny", user));
+        }
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 검색_조건_없이_목록을_조회하면_목록과_개수_쿼리만_실행된다() {
+        // when
+        Slice<TodoResponse> todos = search(condition(null, null, null));
+
+        // then
+        assertThat(todos.getContent()).hasSize(TODO_COUNT);
+        assertQueryCount(2);
+    }
+
+    @Test
+    void 날씨로_목록을_조회하면_목록과_개수_쿼리만_실행된다() {
+        // when
+        Slice<TodoResponse> todos = search(condition("Sunny", null, null));
+
+        // then
+        assertThat(todos.getContent()).hasSize(TODO_COUNT);
+        assertQueryCount(2);
+    }
+
+    @Test
+    void 수정일로_목록을_조회하면_목록과_개수_쿼리만_실행된다() {
+        // when
+        Slice<TodoResponse> todos = search(condition(null, today(), tomorrow()));
+
+        // then
+        assertThat(todos.getContent()).hasSize(TODO_COUNT);
+        assertQueryCount(2);
+    }
+
+    @Test
+    void 날씨와_수정일로_목록을_조회하면_목록과_개수_쿼리만_실행된다() {
+        // when
+        Slice<TodoResponse> todos = search(condition("Sunny", today(), tomorrow()));
+
+        // then
+        assertThat(todos.getContent()).hasSize(TODO_COUNT);
+        assertQueryCount(2);
+    }
+
+    @Test
+    void 커서로_목록을_조회하면_목록_쿼리만_실행된다() {
+        // when
+        var todos = todoRepository.searchByCursor(condition("Sunny", today(), tomorrow()), null, TODO_COUNT + 1);
+
+        // then
+        assertThat(todos).hasSize(TODO_COUNT);
+        assertQueryCount(1);
+    }
+
+    private Slice<TodoResponse> search(TodoSearchCondition condition) {
+        return todoRepository.search(condition, PageRequest.of(0, 10), TotalMode.EXACT);
+    }
+
+    private void assertQueryCount(long expected) {
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        // projection으로 조회하므로 엔티티가 로딩되지 않아야 한다.
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private static TodoSearchCondition condition(String weather, LocalDateTime modifiedFrom, LocalDateTime modifiedTo) {
+        return new TodoSearchCondition(null, weather, null, modifiedFrom, modifiedTo, null, null, TodoSortKey.MODIFIED_AT);
+    }
+
+    private static LocalDateTime today() {
+        return LocalDate.now().atStartOfDay();
+    }
+
+    private static LocalDateTime tomorrow() {
+        return LocalDate.now().plusDays(1).atStartOfDay();
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.RepositoryTestConfig;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({RepositoryTestConfig.class, PersistenceConfig.class})
+// 테스트마다 제목 색인 상태를 바꾸므로 컨텍스트를 새로 만든다.
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class TodoTitleCursorSearchTest {
+
+    private static final int TODO_COUNT = 7;
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoTitleIndex todoTitleIndex;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private final List<Long> expectedIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = em.persist(new User("user@test.com", "password", UserRole.USER, "nickname"));
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < TODO_COUNT; i++) {
+            todos.add(em.persist(new Todo("검색 제목 " + i, "contents", "Sunny", user)));
+        }
+        em.persist(new Todo("다른 할 일", "contents", "Sunny", user));
+        em.flush();
+
+        // 가져오기/일괄 저장처럼 id 순서와 생성일 순서가 다르게 만든다. (id가 클수록 오래된 데이터, 두 건은 생성일이 같음)
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < TODO_COUNT; i++) {
+            em.getEntityManager()
+                    .createNativeQuery("UPDATE todos SET created_at = ? WHERE id = ?")
+                    .setParameter(1, base.minusHours(Math.max(i, 1)))
+                    .setParameter(2, todos.get(i).getId())
+                    .executeUpdate();
+        }
+        em.clear();
+
+        // (생성일, id) 내림차순
+        expectedIds.add(todos.get(1).getId());
+        expectedIds.add(todos.get(0).getId());
+        for (int i = 2; i < TODO_COUNT; i++) {
+            expectedIds.add(todos.get(i).getId());
+        }
+    }
+
+    @Test
+    void 색인이_준비되기_전에는_LIKE_조건으로_생성일_순서대로_조회한다() {
+        // given
+        ReflectionTestUtils.setField(todoTitleIndex, "ready", false);
+
+        // when & then
+        assertThat(readAllPages(false)).containsExactlyElementsOf(expectedIds);
+    }
+
+    @Test
+    void 색인_경로도_생성일_순서대로_조회한다() {
+        // given
+        todoTitleIndex.build();
+
+        // when & then
+        assertThat(readAllPages(false)).containsExactlyElementsOf(expectedIds);
+    }
+
+    @Test
+    void 페이지_중간에_색인_경로로_바뀌어도_누락이나_중복이_없다() {
+        // given
+        ReflectionTestUtils.setField(todoTitleIndex, "ready", false);
+
+        // when & then
+        assertThat(readAllPages(true)).containsExactlyElementsOf(expectedIds);
+    }
+
+    private List<Long> readAllPages(boolean buildIndexAfterFirstPage) {
+        List<Long> ids = new ArrayList<>();
+        KeysetCursor cursor = null;
+        while (true) {
+            List<TodoSearchResponse> page = todoRepository.findByTitleContainsAfter("검색", cursor, PAGE_SIZE);
+            page.forEach(todo -> ids.add(todo.getId()));
+            if (page.size() < PAGE_SIZE) {
+                return ids;
+            }
+            if (buildIndexAfterFirstPage && ids.size() == PAGE_SIZE) {
+                todoTitleIndex.build();
+            }
+            TodoSearchResponse last = page.get(page.size() - 1);
+            cursor = new KeysetCursor(last.getCreatedAt(), last.getId());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveJobResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoSaveJobStatus;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoTitleIndex;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TodoAsyncSaveServiceTest {
+
+    private final AuthUser authUser = new AuthUser(1L, "user@test.com", UserRole.USER, "nickname");
+
+    private TodoRepository todoRepository;
+    private UserRepository userRepository;
+    private WeatherClient weatherClient;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        userRepository = mock(UserRepository.class);
+        weatherClient = mock(WeatherClient.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+
+        User user = User.fromAuthUser(authUser);
+        AtomicLong ids = new AtomicLong();
+        when(weatherClient.getTodayWeather()).thenReturn("Sunny");
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(user));
+        when(todoRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            List<Todo> todos = (List<Todo>) invocation.getArgument(0);
+            todos.forEach(todo -> ReflectionTestUtils.setField(todo, "id", ids.incrementAndGet()));
+            return todos;
+        });
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    void 큐가_가득_차면_429_예외가_발생한다() {
+        // given
+        TodoAsyncSaveService service = service(1);
+        ReflectionTestUtils.setField(service, "accepting", true);
+        service.enqueue(authUser, request(0));
+
+        // when & then
+        assertThatThrownBy(() -> service.enqueue(authUser, request(1)))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void 종료할_때_이미_접수한_작업을_모두_저장한다() throws InterruptedException {
+        // given
+        TodoAsyncSaveService service = service(100);
+        ReflectionTestUtils.setField(service, "accepting", true);
+        List<TodoSaveJobResponse> accepted = IntStream.range(0, 10)
+                .mapToObj(i -> service.enqueue(authUser, request(i)))
+                .toList();
+
+        // when
+        service.start();
+        service.stop();
+
+        // then
+        assertThat(accepted).allSatisfy(job ->
+                assertThat(service.getJob(authUser, job.getJobId()).getStatus()).isEqualTo(TodoSaveJobStatus.DONE));
+    }
+
+    @Test
+    void 종료_중에는_새_요청을_503으로_거절한다() throws InterruptedException {
+        // given
+        TodoAsyncSaveService service = service(100);
+        service.start();
+        service.stop();
+
+        // when & then
+        assertThatThrownBy(() -> service.enqueue(authUser, request(0)))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    private TodoAsyncSaveService service(int queueCapacity) {
+        return new TodoAsyncSaveService(todoRepository, userRepository, weatherClient, mock(TodoTitleIndex.class),
+                transactionTemplate, queueCapacity, 2, 3, 3600, 10);
+    }
+
+    private static TodoSaveRequest request(int i) {
+        return new TodoSaveRequest("title " + i, "contents " + i);
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 단건 저장(saveTodo 반복)과 batch 저장(saveTodos)의 초당 저장 건수 비교
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "jwt.secret.key=ZXhwZXJ0LWJlbmNobWFyay1zZWNyZXQta2V5LWZvci1oczI1Ni10ZXN0cyE=",
+        // 홈 디렉터리 대신 임시 디렉터리에 감사 로그 기록
+        "audit.journal.dir=${java.io.tmpdir}/expert-audit/TodoBatchSaveBenchmarkTest"
+})
+class TodoBatchSaveBenchmarkTest {
+
+    private static final int ROWS = 1000;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    private AuthUser authUser;
+
+    @BeforeEach
+    void setUp() {
+        when(weatherClient.getTodayWeather()).thenReturn("Sunny");
+        User user = userRepository.save(new User(
+                "bench" + System.nanoTime() + "@example.com", "password", UserRole.USER, "bench"));
+        authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole(), user.getNickname());
+    }
+
+    @Test
+    void 단건_저장과_batch_저장의_초당_저장_건수를_비교한다() {
+        List<TodoSaveRequest> requests = IntStream.range(0, ROWS)
+                .mapToObj(i -> new TodoSaveRequest("title " + i, "contents " + i))
+                .toList();
+
+        // warm up
+        requests.subList(0, 100).forEach(request -> todoService.saveTodo(authUser, request));
+        todoService.saveTodos(authUser, new TodoBatchSaveRequest(requests.subList(0, 100)));
+
+        long singleNanos = 0;
+        long batchNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long startedAt = System.nanoTime();
+            requests.forEach(request -> todoService.saveTodo(authUser, request));
+            singleNanos += System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            todoService.saveTodos(authUser, new TodoBatchSaveRequest(requests));
+            batchNanos += System.nanoTime() - startedAt;
+        }
+
+        double singleRowsPerSec = rowsPerSecond(singleNanos);
+        double batchRowsPerSec = rowsPerSecond(batchNanos);
+        System.out.printf("single: %.0f rows/s, batch: %.0f rows/s (x%.1f)%n",
+                singleRowsPerSec, batchRowsPerSec, batchRowsPerSec / singleRowsPerSec);
+
+        assertThat(todoRepository.count()).isGreaterThanOrEqualTo(2L * ROWS * ROUNDS);
+        assertThat(batchRowsPerSec).isGreaterThan(singleRowsPerSec);
+    }
+
+    private double rowsPerSecond(long nanos) {
+        return (double) ROWS * ROUNDS / (nanos / 1_000_000_000.0);
+    }
+}
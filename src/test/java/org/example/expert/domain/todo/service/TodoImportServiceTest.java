@@ -0,0 +1,166 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoImportJob;
+import org.example.expert.domain.todo.enums.TodoImportStatus;
+import org.example.expert.domain.todo.repository.TodoImportJobRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoTitleIndex;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TodoImportServiceTest {
+
+    private static final String CSV = """
+            title,contents,email,weather
+            t1,c1,user@test.com,Sunny
+            t2,c2,user@test.com,Sunny
+            t3,c3,user@test.com,Sunny
+            t4,c4,user@test.com,Sunny
+            """;
+
+    private TodoRepository todoRepository;
+    private TodoImportJobRepository todoImportJobRepository;
+    private TodoImportService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        todoImportJobRepository = mock(TodoImportJobRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+        User user = User.fromAuthUser(new AuthUser(1L, "user@test.com", UserRole.USER, "nickname"));
+        when(userRepository.findAllByEmailIn(any())).thenReturn(List.of(user));
+        when(todoRepository.saveAll(anyIterable())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        doCallRealMethod().when(transactionTemplate).executeWithoutResult(any());
+
+        service = new TodoImportService(todoRepository, todoImportJobRepository, userRepository,
+                mock(WeatherClient.class), mock(TodoTitleIndex.class), transactionTemplate, 10, 1, 1, 600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void 같은_파일로_이어서_가져오면_커밋된_행_다음부터_저장한다() throws Exception {
+        // given
+        byte[] bytes = CSV.getBytes(StandardCharsets.UTF_8);
+        TodoImportJob job = failedJob(bytes, 2);
+        when(todoImportJobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        // when
+        service.start(new MockMultipartFile("file", "todos.csv", "text/csv", bytes), 1L);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Todo>> captor = ArgumentCaptor.forClass(List.class);
+        verify(todoRepository, timeout(5000)).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(Todo::getTitle).containsExactly("t3", "t4");
+    }
+
+    @Test
+    void 다른_파일로_이어서_가져오면_예외가_발생한다() throws Exception {
+        // given
+        TodoImportJob job = failedJob(CSV.getBytes(StandardCharsets.UTF_8), 2);
+        when(todoImportJobRepository.findById(1L)).thenReturn(Optional.of(job));
+        byte[] other = CSV.replace("t3", "x3").getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThatThrownBy(() -> service.start(new MockMultipartFile("file", "todos.csv", "text/csv", other), 1L))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThat(job.getStatus()).isEqualTo(TodoImportStatus.FAILED);
+        verify(todoRepository, never()).saveAll(anyIterable());
+    }
+
+    @Test
+    void 컬럼_길이를_넘는_행은_건너뛰고_나머지를_저장한다() throws Exception {
+        // given
+        byte[] bytes = CSV.replace("t2,c2", "t2," + "c".repeat(256)).getBytes(StandardCharsets.UTF_8);
+        TodoImportJob job = failedJob(bytes, 0);
+        when(todoImportJobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        // when
+        service.start(new MockMultipartFile("file", "todos.csv", "text/csv", bytes), 1L);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Todo>> captor = ArgumentCaptor.forClass(List.class);
+        verify(todoRepository, timeout(5000)).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(Todo::getTitle).containsExactly("t1", "t3", "t4");
+        verify(todoImportJobRepository, timeout(5000).times(3)).findById(1L);
+        assertThat(job.getSkippedRows()).isEqualTo(1);
+    }
+
+    @Test
+    void 다른_곳에서_진행_중인_작업은_이어받지_않는다() throws Exception {
+        // given
+        byte[] bytes = CSV.getBytes(StandardCharsets.UTF_8);
+        TodoImportJob job = failedJob(bytes, 2);
+        job.start();
+        ReflectionTestUtils.setField(job, "modifiedAt", LocalDateTime.now());
+        when(todoImportJobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        // when & then
+        assertThatThrownBy(() -> service.start(new MockMultipartFile("file", "todos.csv", "text/csv", bytes), 1L))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("이미 진행 중인 작업입니다.");
+        verify(todoRepository, never()).saveAll(anyIterable());
+    }
+
+    @Test
+    void 긴_실패_메시지는_컬럼_길이로_자른다() {
+        // given
+        TodoImportJob job = new TodoImportJob("todos.csv", 1, "sha");
+
+        // when
+        job.fail("e".repeat(1000));
+
+        // then
+        assertThat(job.getErrorMessage()).hasSize(255);
+    }
+
+    private static TodoImportJob failedJob(byte[] bytes, long committedRows) throws Exception {
+        String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        TodoImportJob job = new TodoImportJob("todos.csv", bytes.length, sha256);
+        ReflectionTestUtils.setField(job, "id", 1L);
+        ReflectionTestUtils.setField(job, "committedRows", committedRows);
+        job.fail("실패");
+        return job;
+    }
+}
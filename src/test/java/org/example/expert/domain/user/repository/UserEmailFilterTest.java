@@ -0,0 +1,85 @@
+package org.example.expert.domain.user.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.RepositoryTestConfig;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.expert.domain.user.entity.QUser.user;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+@DataJpaTest
+@Import(RepositoryTestConfig.class)
+class UserEmailFilterTest {
+
+    @Autowired
+    private JPAQueryFactory queryFactory;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void 재생성하면_가입된_이메일을_대소문자_구분_없이_포함한다() {
+        // given
+        em.persist(new User("Kim@Test.com", "password", UserRole.USER, "kim"));
+        em.flush();
+        UserEmailFilter filter = new UserEmailFilter(queryFactory, new SimpleMeterRegistry(), 100, 0.01);
+
+        // when
+        filter.rebuild();
+
+        // then
+        assertThat(filter.mightContain("kim@test.com")).isTrue();
+        assertThat(filter.mightContain("lee@test.com")).isFalse();
+    }
+
+    @Test
+    void 재생성_전에는_모든_이메일이_있을_수_있다고_판단한다() {
+        // given
+        UserEmailFilter filter = new UserEmailFilter(queryFactory, new SimpleMeterRegistry(), 100, 0.01);
+
+        // when & then
+        assertThat(filter.mightContain("lee@test.com")).isTrue();
+    }
+
+    @Test
+    void 재생성_중_유저_수를_세는_사이_가입한_이메일도_새_filter에_들어간다() {
+        // given
+        JPAQueryFactory spyQueryFactory = spy(queryFactory);
+        AtomicReference<UserEmailFilter> filter = new AtomicReference<>();
+        doAnswer(invocation -> {
+            filter.get().add("late@test.com");
+            return invocation.callRealMethod();
+        }).when(spyQueryFactory).select(user.count());
+        filter.set(new UserEmailFilter(spyQueryFactory, new SimpleMeterRegistry(), 100, 0.01));
+
+        // when
+        filter.get().rebuild();
+
+        // then
+        assertThat(filter.get().mightContain("late@test.com")).isTrue();
+    }
+
+    @Test
+    void 가입한_이메일을_추가하면_바로_포함한다() {
+        // given
+        UserEmailFilter filter = new UserEmailFilter(queryFactory, new SimpleMeterRegistry(), 100, 0.01);
+        filter.rebuild();
+
+        // when
+        filter.add("new@test.com");
+
+        // then
+        assertThat(filter.mightContain("NEW@test.com")).isTrue();
+    }
+}
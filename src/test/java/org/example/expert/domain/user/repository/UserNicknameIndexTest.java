@@ -0,0 +1,76 @@
+package org.example.expert.domain.user.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.RepositoryTestConfig;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.text.Normalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({RepositoryTestConfig.class, PersistenceConfig.class})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class UserNicknameIndexTest {
+
+    @Autowired
+    private UserNicknameIndex userNicknameIndex;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void 색인을_만들면_닉네임_부분_문자열로_유저_id를_찾는다() {
+        // given
+        User kim = em.persist(new User("kim@test.com", "password", UserRole.USER, "김철수"));
+        User lee = em.persist(new User("lee@test.com", "password", UserRole.USER, "이철수"));
+        em.persist(new User("park@test.com", "password", UserRole.USER, "박영희"));
+        em.flush();
+
+        // when
+        userNicknameIndex.build();
+
+        // then
+        assertThat(userNicknameIndex.search("철수")).containsExactly(lee.getId(), kim.getId());
+        assertThat(userNicknameIndex.search("김철수")).containsExactly(kim.getId());
+        // 자모가 분리된(NFD) 검색어도 같은 결과
+        assertThat(userNicknameIndex.search(Normalizer.normalize("김철수", Normalizer.Form.NFD)))
+                .containsExactly(kim.getId());
+        assertThat(userNicknameIndex.search("없는닉네임")).isEmpty();
+    }
+
+    @Test
+    void 트랜잭션_안에서_추가한_닉네임은_커밋_전에는_검색되지_않는다() {
+        // given
+        userNicknameIndex.build();
+
+        // when
+        userNicknameIndex.add(100L, "새로운유저");
+
+        // then
+        assertThat(userNicknameIndex.search("새로운")).isEmpty();
+    }
+
+    @Test
+    void 색인을_만든_뒤_다른_곳에서_저장된_유저는_갱신할_때_추가된다() {
+        // given
+        userNicknameIndex.build();
+        // 다른 인스턴스에서 저장된 유저 (이 인스턴스의 색인에는 add되지 않음)
+        User kim = em.persist(new User("kim@test.com", "password", UserRole.USER, "김철수"));
+        em.flush();
+        assertThat(userNicknameIndex.search("김철수")).isEmpty();
+
+        // when
+        userNicknameIndex.refresh();
+
+        // then
+        assertThat(userNicknameIndex.search("김철수")).containsExactly(kim.getId());
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+
+    private UserRepository userRepository;
+    private PasswordEncoder passwordEncoder;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+
+        passwordEncoder = new PasswordEncoder(new SimpleMeterRegistry(), 4, 1, 10, 5000);
+        userService = new UserService(userRepository, passwordEncoder, transactionTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    void 기존_비밀번호가_맞으면_새_비밀번호로_바꾼다() {
+        // given
+        User user = user(passwordEncoder.encode("Password1"));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        // when
+        userService.changePassword(1L, new UserChangePasswordRequest("Password1", "Password2"));
+
+        // then
+        assertThat(passwordEncoder.matches("Password2", user.getPassword())).isTrue();
+    }
+
+    @Test
+    void 검증한_뒤_다른_요청이_비밀번호를_바꿨으면_덮어쓰지_않는다() {
+        // given
+        User checked = user(passwordEncoder.encode("Password1"));
+        String changedPassword = passwordEncoder.encode("Password3");
+        User current = user(changedPassword);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(checked), Optional.of(current));
+
+        // when & then
+        assertThatThrownBy(() -> userService.changePassword(1L, new UserChangePasswordRequest("Password1", "Password2")))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThat(current.getPassword()).isEqualTo(changedPassword);
+    }
+
+    private static User user(String password) {
+        User user = new User("user@test.com", password, UserRole.USER, "nickname");
+        ReflectionTestUtils.setField(user, "id", 1L);
+        return user;
+    }
+}